@@ -3,8 +3,11 @@ package dev.gotcraft.gotCraftHolo;
 import com.maximde.hologramlib.HologramLib;
 import dev.gotcraft.gotCraftHolo.commands.HoloCommand;
 import dev.gotcraft.gotCraftHolo.manager.HoloManager;
+import dev.gotcraft.gotCraftHolo.manager.RefreshPipeline;
 import dev.gotcraft.gotCraftHolo.manager.RefreshTask;
 import dev.gotcraft.gotCraftHolo.manager.TextAnimationManager;
+import dev.gotcraft.gotCraftHolo.manager.TimelineManager;
+import dev.gotcraft.gotCraftHolo.manager.WorldListener;
 import dev.gotcraft.gotCraftHolo.service.PlaceholderService;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -25,7 +28,9 @@ public final class GotCraftHolo extends JavaPlugin {
 
     private HoloManager holoManager;
     private RefreshTask refreshTask;
+    private RefreshPipeline refreshPipeline;
     private TextAnimationManager textAnimationManager;
+    private TimelineManager timelineManager;
     private FileConfiguration messagesConfig;
     private File messagesFile;
 
@@ -70,8 +75,13 @@ public final class GotCraftHolo extends JavaPlugin {
         // Initialize text animation manager
         textAnimationManager = new TextAnimationManager(this);
 
+        // Initialize timeline manager
+        timelineManager = new TimelineManager(this);
+
         // Initialize services
         PlaceholderService.init();
+        PlaceholderService.setMainThreadExpansions(getConfig().getStringList("performance.main-thread-placeholders"));
+        PlaceholderService.configureCache(this, getConfig().getConfigurationSection("performance.placeholder-cache"));
         if (PlaceholderService.isEnabled()) {
             getLogger().info("✓ PlaceholderAPI hooked successfully!");
         } else {
@@ -86,6 +96,8 @@ public final class GotCraftHolo extends JavaPlugin {
                 getLogger().info("✓ HologramLib initialized successfully!");
                 holoManager.init(manager);
                 holoManager.loadAll();
+                getServer().getPluginManager().registerEvents(holoManager.getViewerTracker(), this);
+                getServer().getPluginManager().registerEvents(new WorldListener(holoManager), this);
             },
             () -> {
                 getLogger().severe("✗ Failed to initialize HologramLib manager!");
@@ -101,9 +113,8 @@ public final class GotCraftHolo extends JavaPlugin {
             getCommand("holo").setTabCompleter(holoCommand);
         }
 
-        // Start refresh task
-        refreshTask = new RefreshTask(this, holoManager);
-        refreshTask.runTaskTimerAsynchronously(this, 20L, 1L); // Run every tick
+        // Start refresh task (renders off-thread, applies on the main thread)
+        startRefresh(20L);
 
         getLogger().info("✓ GotCraftHolo enabled successfully!");
     }
@@ -111,9 +122,8 @@ public final class GotCraftHolo extends JavaPlugin {
     @Override
     public void onDisable() {
         // Cancel refresh task
-        if (refreshTask != null) {
-            refreshTask.cancel();
-        }
+        stopRefresh();
+        PlaceholderService.shutdownCache();
 
         // Unload all holograms (but don't save - files are already saved when modified)
         if (holoManager != null) {
@@ -123,6 +133,35 @@ public final class GotCraftHolo extends JavaPlugin {
         getLogger().info("✓ GotCraftHolo disabled successfully!");
     }
 
+    /**
+     * Restart the refresh task and pipeline with the current performance settings (thread count, time budget)
+     */
+    public void restartRefresh() {
+        stopRefresh();
+        startRefresh(1L);
+    }
+
+    private void startRefresh(long delayTicks) {
+        int refreshThreads = getConfig().getBoolean("performance.async-updates", true)
+            ? getConfig().getInt("performance.refresh-threads", 2)
+            : 0;
+        refreshPipeline = new RefreshPipeline(this, holoManager, refreshThreads);
+        long refreshBudget = getConfig().getLong("performance.refresh-budget-nanos", 2_000_000L);
+        refreshTask = new RefreshTask(this, holoManager, refreshPipeline, refreshBudget);
+        refreshTask.runTaskTimer(this, delayTicks, 1L); // Run every tick
+    }
+
+    private void stopRefresh() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+        if (refreshPipeline != null) {
+            refreshPipeline.shutdown();
+            refreshPipeline = null;
+        }
+    }
+
     /**
      * Load messages configuration
      */
@@ -171,10 +210,31 @@ public final class GotCraftHolo extends JavaPlugin {
         return holoManager;
     }
 
+    /**
+     * Get the refresh task
+     */
+    public RefreshTask getRefreshTask() {
+        return refreshTask;
+    }
+
+    /**
+     * Get the refresh pipeline
+     */
+    public RefreshPipeline getRefreshPipeline() {
+        return refreshPipeline;
+    }
+
     /**
      * Get the text animation manager
      */
     public TextAnimationManager getTextAnimationManager() {
         return textAnimationManager;
     }
+
+    /**
+     * Get the timeline manager
+     */
+    public TimelineManager getTimelineManager() {
+        return timelineManager;
+    }
 }
@@ -1,10 +1,15 @@
 package dev.gotcraft.gotCraftHolo.commands;
 
 import dev.gotcraft.gotCraftHolo.GotCraftHolo;
+import dev.gotcraft.gotCraftHolo.manager.AnimationManager;
 import dev.gotcraft.gotCraftHolo.manager.HoloManager;
+import dev.gotcraft.gotCraftHolo.manager.RefreshTask;
+import dev.gotcraft.gotCraftHolo.manager.ViewerTracker;
 import dev.gotcraft.gotCraftHolo.model.HoloDefinition;
 import dev.gotcraft.gotCraftHolo.model.HoloType;
 import dev.gotcraft.gotCraftHolo.model.LeaderboardConfig;
+import dev.gotcraft.gotCraftHolo.service.PlaceholderCache;
+import dev.gotcraft.gotCraftHolo.service.PlaceholderService;
 import dev.gotcraft.gotCraftHolo.util.MiniMessageUtil;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
@@ -108,6 +113,8 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
                 return handleParticle(sender, args);
             case "reload":
                 return handleReload(sender);
+            case "stats":
+                return handleStats(sender);
             default:
                 sendMessage(sender, "<red>Unknown subcommand. Use /holo for help.");
                 return true;
@@ -378,6 +385,11 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
+        if (!def.isWorldLoaded()) {
+            sendMessage(sender, "<red>World <white>" + def.getWorldName() + "</white> is not loaded!");
+            return true;
+        }
+
         player.teleport(def.getLocation());
         sendMessage(sender, "<green>Teleported to hologram <white>" + id + "</white>!");
         return true;
@@ -462,33 +474,23 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
         }
 
         Location playerLoc = player.getLocation();
-        List<HoloDefinition> nearbyHolograms = new ArrayList<>();
-
-        for (HoloDefinition def : holoManager.getAllDefinitions()) {
-            Location holoLoc = def.getLocation();
-            if (holoLoc.getWorld() != null && holoLoc.getWorld().equals(playerLoc.getWorld())) {
-                double dist = holoLoc.distance(playerLoc);
-                if (dist <= distance) {
-                    nearbyHolograms.add(def);
-                }
-            }
-        }
+        List<HoloDefinition> nearbyHolograms = holoManager.getSpatialIndex().getNearby(playerLoc, distance);
 
         if (nearbyHolograms.isEmpty()) {
             sendMessage(sender, "<yellow>No holograms found within <white>" + distance + "</white> blocks.");
             return true;
         }
 
-        // Sort by distance
-        nearbyHolograms.sort((a, b) -> {
-            double distA = a.getLocation().distance(playerLoc);
-            double distB = b.getLocation().distance(playerLoc);
-            return Double.compare(distA, distB);
-        });
+        // Sort by distance, computed once per hologram
+        Map<HoloDefinition, Double> distances = new HashMap<>();
+        for (HoloDefinition def : nearbyHolograms) {
+            distances.put(def, def.getLocation().distanceSquared(playerLoc));
+        }
+        nearbyHolograms.sort(Comparator.comparingDouble(distances::get));
 
         sendMessage(sender, "<gradient:#00F8F8:#00F542><b>Nearby Holograms (" + nearbyHolograms.size() + "):</b></gradient>");
         for (HoloDefinition def : nearbyHolograms) {
-            double dist = def.getLocation().distance(playerLoc);
+            double dist = Math.sqrt(distances.get(def));
             sendMessage(sender, "<white>• " + def.getId() + "</white> <gray>(" + def.getType() + ") - " +
                        String.format("%.1f", dist) + "m away</gray>");
         }
@@ -1140,7 +1142,9 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
     private boolean handleAnimate(CommandSender sender, String[] args) {
         if (args.length < 3) {
             sendMessage(sender, "<yellow>Usage: /holo animate <id> <type> [speed] [radius]");
-            sendMessage(sender, "<gray>Types: none, rotate, bounce, circle, spiral, shake");
+            sendMessage(sender, "<yellow>Usage: /holo animate <id> timeline <name> [speed]");
+            sendMessage(sender, "<yellow>Usage: /holo animate <id> phase <ticks>");
+            sendMessage(sender, "<gray>Types: none, rotate, bounce, circle, spiral, shake, timeline");
             return true;
         }
 
@@ -1152,26 +1156,59 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
+        if (args[2].equalsIgnoreCase("phase")) {
+            if (args.length < 4) {
+                sendMessage(sender, "<yellow>Usage: /holo animate <id> phase <ticks>");
+                return true;
+            }
+            try {
+                def.setAnimationPhase(Integer.parseInt(args[3]));
+                holoManager.updateHologram(def);
+                sendMessage(sender, "<green>Animation phase set to: <white>" + def.getAnimationPhase() + " ticks");
+            } catch (NumberFormatException e) {
+                sendMessage(sender, "<red>Invalid number!");
+            }
+            return true;
+        }
+
         try {
             HoloDefinition.AnimationType type = HoloDefinition.AnimationType.valueOf(args[2].toUpperCase());
-            def.setAnimationType(type);
-            def.setAnimated(type != HoloDefinition.AnimationType.NONE);
 
-            if (args.length > 3) {
-                double speed = Double.parseDouble(args[3]);
+            if (type == HoloDefinition.AnimationType.TIMELINE) {
+                if (args.length < 4 || plugin.getTimelineManager().getTimeline(args[3]) == null) {
+                    sendMessage(sender, "<red>Unknown timeline!");
+                    sendMessage(sender, "<gray>Timelines: " + String.join(", ", plugin.getTimelineManager().getTimelineNames()));
+                    return true;
+                }
+                // Timelines play forwards only, a speed of 0 or less would never reach the end
+                double speed = args.length > 4 ? Double.parseDouble(args[4])
+                    : (def.getAnimationSpeed() > 0 ? def.getAnimationSpeed() : 1.0);
+                if (speed <= 0) {
+                    sendMessage(sender, "<red>Timeline speed must be greater than 0!");
+                    return true;
+                }
+                def.setAnimationTimeline(args[3].toLowerCase());
                 def.setAnimationSpeed(speed);
-            }
+            } else {
+                if (args.length > 3) {
+                    double speed = Double.parseDouble(args[3]);
+                    def.setAnimationSpeed(speed);
+                }
 
-            if (args.length > 4) {
-                double radius = Double.parseDouble(args[4]);
-                def.setAnimationRadius(radius);
+                if (args.length > 4) {
+                    double radius = Double.parseDouble(args[4]);
+                    def.setAnimationRadius(radius);
+                }
             }
 
+            def.setAnimationType(type);
+            def.setAnimated(type != HoloDefinition.AnimationType.NONE);
+
             holoManager.updateHologram(def);
             sendMessage(sender, "<green>Animation set to: <white>" + type.name().toLowerCase());
         } catch (IllegalArgumentException e) {
             sendMessage(sender, "<red>Invalid animation type!");
-            sendMessage(sender, "<gray>Types: none, rotate, bounce, circle, spiral, shake");
+            sendMessage(sender, "<gray>Types: none, rotate, bounce, circle, spiral, shake, timeline");
         }
         return true;
     }
@@ -1240,12 +1277,79 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
     private boolean handleReload(CommandSender sender) {
         plugin.reloadConfig();
         plugin.reloadMessages();
+        PlaceholderService.setMainThreadExpansions(plugin.getConfig().getStringList("performance.main-thread-placeholders"));
+        PlaceholderService.configureCache(plugin, plugin.getConfig().getConfigurationSection("performance.placeholder-cache"));
         holoManager.unloadAll();
+        plugin.restartRefresh(); // Picks up refresh-threads, async-updates and refresh-budget-nanos
+        plugin.getTimelineManager().loadAllTimelines();
         holoManager.loadAll();
         sendMessage(sender, plugin.getMessage("reloaded"));
         return true;
     }
 
+    private boolean handleStats(CommandSender sender) {
+        long sent = holoManager.getTextUpdatesSent();
+        long skipped = holoManager.getTextUpdatesSkipped();
+        long total = sent + skipped;
+        double savedPercent = total == 0 ? 0.0 : (skipped * 100.0) / total;
+
+        sendMessage(sender, "<gradient:#00F8F8:#00F542><b>Hologram Stats:</b></gradient>");
+        sendMessage(sender, "<white>Holograms: <gray>" + holoManager.getAllDefinitions().size() +
+                   " (" + holoManager.getActiveCount() + " in loaded chunks, " +
+                   holoManager.getRefreshScheduler().size() + " scheduled for refresh)");
+        sendMessage(sender, "<white>Text updates sent: <green>" + sent);
+        sendMessage(sender, "<white>Text updates skipped: <yellow>" + skipped +
+                   " <gray>(" + String.format("%.1f", savedPercent) + "% unchanged)");
+
+        if (plugin.getRefreshPipeline() != null) {
+            sendMessage(sender, "<white>Rendering: <gray>" + plugin.getRefreshPipeline().getInFlightCount() +
+                       " in flight, " + plugin.getRefreshPipeline().getPendingCount() + " waiting to apply");
+            sendMessage(sender, "<white>Placeholder dedup: <gray>last cycle " + plugin.getRefreshPipeline().getLastBatchOccurrences() +
+                       " uses -> " + plugin.getRefreshPipeline().getLastBatchResolutions() + " resolved <white>(overall " +
+                       String.format("%.2f", plugin.getRefreshPipeline().getDedupRatio()) + "x)");
+        }
+
+        PlaceholderCache cache = PlaceholderService.getCache();
+        if (cache != null) {
+            sendMessage(sender, "<white>Placeholder cache: <gray>" + cache.size() + " values, <green>" + cache.getHits() +
+                       " hits<gray>, <yellow>" + cache.getMisses() + " misses<gray>, " + cache.getStaleServed() + " served stale");
+        }
+
+        RefreshTask refreshTask = plugin.getRefreshTask();
+        if (refreshTask != null) {
+            String budget = refreshTask.getBudgetNanos() > 0
+                ? String.format("%.2fms", refreshTask.getBudgetNanos() / 1_000_000.0)
+                : "unlimited";
+            sendMessage(sender, "<white>Tick budget: <gray>" + budget + " <white>Carry-over: <yellow>" +
+                       refreshTask.getCarryOverDepth() + " <gray>(over budget on " + refreshTask.getBudgetExceededTicks() + " ticks)");
+            sendMessage(sender, "<white>Refresh lag: <yellow>" + refreshTask.getCurrentLagTicks() +
+                       " ticks <gray>(max " + refreshTask.getMaxLagTicks() + ")");
+            sendMessage(sender, "<white>Refreshes suspended (no viewers): <yellow>" + refreshTask.getSuspendedRefreshes());
+        }
+
+        ViewerTracker viewerTracker = holoManager.getViewerTracker();
+        String cap = viewerTracker.getMaxPerPlayer() > 0 ? String.valueOf(viewerTracker.getMaxPerPlayer()) : "unlimited";
+        sendMessage(sender, "<white>Visibility: <gray>max " + viewerTracker.getMaxVisibleCount() + " holograms per player (cap " +
+                   cap + "), " + viewerTracker.getRecomputes() + " recomputes, <yellow>" + viewerTracker.getCappedRecomputes() + " capped");
+
+        AnimationManager animationManager = holoManager.getAnimationManager();
+        if (animationManager != null) {
+            sendMessage(sender, "<white>Animations: <gray>" + animationManager.getAnimationCount() + " moving, " +
+                       animationManager.getParticleEffectCount() + " with particles");
+            sendMessage(sender, "<white>Animation LOD: <green>" + animationManager.getLodUpdatesSent() +
+                       " sent<gray>, <yellow>" + animationManager.getLodUpdatesSkipped() + " skipped (distance), " +
+                       animationManager.getCulledMotionTicks() + " ticks culled (no viewers)");
+            if (animationManager.getMotionBytesPerTick() >= 0) {
+                sendMessage(sender, "<white>Animation allocation: <gray>" + animationManager.getMotionBytesPerTick() + " bytes per tick");
+            }
+            if (animationManager.getEmitter() != null) {
+                sendMessage(sender, "<white>Particle packets: <green>" + animationManager.getEmitter().getPacketsSent() +
+                           " sent<gray>, <yellow>" + animationManager.getEmitter().getEffectsDeferred() + " effects deferred (cap)");
+            }
+        }
+        return true;
+    }
+
     private void sendHelp(CommandSender sender) {
         sendMessage(sender, "<gradient:#00F8F8:#00F542><b>═══ GotCraftHolo Commands ═══</b></gradient>");
         sendMessage(sender, "<yellow>/holo create <id> <type> [material]</yellow> - Create hologram");
@@ -1268,6 +1372,7 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
         sendMessage(sender, "<yellow>/holo particle <id> <type|off> [count] [radius]</yellow> - Add particles");
         sendMessage(sender, "<yellow>/holo placeholders <id> <true|false></yellow> - Enable PlaceholderAPI");
         sendMessage(sender, "<yellow>/holo migrate</yellow> - Migrate from DecentHolograms");
+        sendMessage(sender, "<yellow>/holo stats</yellow> - Show refresh statistics");
         sendMessage(sender, "<yellow>/holo reload</yellow> - Reload all holograms");
     }
 
@@ -1287,7 +1392,7 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
             return Arrays.asList("create", "remove", "settext", "addline", "setline", "list", "tp", "movehere",
                                "setpos", "near", "scale", "shadow", "align", "opacity", "background",
                                "billboard", "rotate", "seethrough", "viewrange", "placeholders", "animate", "particle",
-                               "migrate", "reload");
+                               "migrate", "stats", "reload");
         }
 
         if (args.length == 2) {
@@ -1318,13 +1423,18 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
                     return Arrays.asList("enable", "disable", "color", "size");
                 case "animate":
                 case "animation":
-                    return Arrays.asList("none", "rotate", "bounce", "circle", "spiral", "shake");
+                    return Arrays.asList("none", "rotate", "bounce", "circle", "spiral", "shake", "timeline", "phase");
                 case "particle":
                 case "particles":
                     return Arrays.asList("off", "FLAME", "HEART", "VILLAGER_HAPPY", "ENCHANTMENT_TABLE", "PORTAL", "END_ROD");
             }
         }
 
+        if (args.length == 4 && (args[0].equalsIgnoreCase("animate") || args[0].equalsIgnoreCase("animation"))
+                && args[2].equalsIgnoreCase("timeline")) {
+            return new ArrayList<>(plugin.getTimelineManager().getTimelineNames());
+        }
+
         if (args.length == 4 && args[0].equalsIgnoreCase("create")) {
             String type = args[2].toLowerCase();
             if (type.equals("item") || type.equals("block")) {
@@ -3,34 +3,82 @@ package dev.gotcraft.gotCraftHolo.manager;
 import dev.gotcraft.gotCraftHolo.GotCraftHolo;
 import dev.gotcraft.gotCraftHolo.model.HoloDefinition;
 import dev.gotcraft.gotCraftHolo.model.HoloType;
+import dev.gotcraft.gotCraftHolo.model.Timeline;
+import dev.gotcraft.gotCraftHolo.util.RotationUtil;
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityDataTypes;
+import com.github.retrooper.packetevents.protocol.particle.type.ParticleType;
+import com.github.retrooper.packetevents.protocol.particle.type.ParticleTypes;
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.util.Vector3f;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityTeleport;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerParticle;
 import com.maximde.hologramlib.hologram.Hologram;
 import org.bukkit.Location;
 import org.bukkit.Particle;
+import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 /**
  * Manages hologram animations and particle effects
+ * All effects are driven by a single ticker walking compact arrays of state. Entries are added by
+ * appending and removed by swapping the last entry into their slot, so both are O(1).
  */
 public class AnimationManager {
 
+    private static final int PARTICLE_INTERVAL = 2; // Ticks between particle spawns
+    private static final int MAX_TELEPORT_DURATION = 59; // Client limit for display entity teleport interpolation
+    private static final double DEGREES_PER_TIMER_UNIT = 20.0; // ROTATE spin rate
+    private static final double MAX_ROTATION_PER_KEYFRAME = 90.0; // Keeps interpolation on the shortest path
+    private static final Vector3f NO_OFFSET = new Vector3f(0, 0, 0);
+    private static final int TELEPORT_DURATION_INDEX = 10; // Display entity metadata index of the teleport duration
+    private static final int MAX_CACHED_POSITIONS = 2048; // Longest motion table cycle whose packet positions are cached
+
     private final GotCraftHolo plugin;
     private final HoloManager holoManager;
-    private final Map<String, BukkitTask> animationTasks;
-    private final Map<String, BukkitTask> particleTasks;
-    private final Map<String, Double> animationTimers; // Track animation progress
-    private final Map<String, Location> baseLocations; // Store original locations
+
+    private MotionState[] motions = new MotionState[16];
+    private int motionCount = 0;
+    private final Map<String, MotionState> motionsById = new HashMap<>();
+
+    private ParticleState[] particles = new ParticleState[16];
+    private int particleCount = 0;
+    private final Map<String, ParticleState> particlesById = new HashMap<>();
+
+    private ParticleEmitter emitter; // Created with the first particle effect
+    private int particleCursor = 0; // Particle effect to start from next particle tick
+
+    private BukkitRunnable ticker; // Null while nothing is animated
+    private long tickCounter = 0;
+
+    // Level of detail, reloaded whenever an animation starts
+    private boolean lodEnabled;
+    private double lodNearDistanceSquared;
+    private double lodMidDistanceSquared;
+    private int lodMidInterval; // Ticks between updates for mid-range viewers
+    private final Location viewerLocation = new Location(null, 0, 0, 0); // Reused for viewer distance checks
+    private long lodUpdatesSent = 0;
+    private long lodUpdatesSkipped = 0;
+    private long culledMotionTicks = 0;
+
+    // Heap allocated by the motion loop, measured on the server thread where the JVM supports it
+    private final com.sun.management.ThreadMXBean allocationCounter = allocationCounter();
+    private long motionAllocatedBytes = 0;
+    private long motionTicksMeasured = 0;
 
     public AnimationManager(GotCraftHolo plugin, HoloManager holoManager) {
         this.plugin = plugin;
         this.holoManager = holoManager;
-        this.animationTasks = new ConcurrentHashMap<>();
-        this.particleTasks = new ConcurrentHashMap<>();
-        this.animationTimers = new ConcurrentHashMap<>();
-        this.baseLocations = new ConcurrentHashMap<>();
     }
 
     /**
@@ -43,67 +91,95 @@ public class AnimationManager {
             return;
         }
 
-        baseLocations.put(id, baseLocation.clone());
-        animationTimers.put(id, 0.0);
-
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                Hologram<?> hologram = holoManager.getActiveHologram(id);
-                if (hologram == null) {
-                    stopAnimation(id);
-                    return;
-                }
-
-                double timer = animationTimers.getOrDefault(id, 0.0);
-                timer += def.getAnimationSpeed() * 0.1; // Increment based on speed
-                animationTimers.put(id, timer);
-
-                Location base = baseLocations.get(id);
-                if (base == null) {
-                    stopAnimation(id);
-                    return;
-                }
+        loadLodSettings();
 
-                Location newLoc = calculateAnimatedLocation(base, def, timer);
+        MotionState state = new MotionState(id, def, baseLocation.clone());
+        state.tick = def.getAnimationPhase(); // Lets identical animations run out of step
 
-                // Actually move the hologram in-game
-                hologram.teleport(newLoc);
+        // Timelines animate the display transformation, sampled every keyframe and interpolated by the client
+        if (def.getAnimationType() == HoloDefinition.AnimationType.TIMELINE) {
+            Timeline timeline = plugin.getTimelineManager().getTimeline(def.getAnimationTimeline());
+            if (timeline == null) {
+                plugin.getLogger().warning("Unknown timeline for hologram " + id + ": " + def.getAnimationTimeline());
+                return;
+            }
+            if (def.getAnimationSpeed() <= 0) {
+                plugin.getLogger().warning("Timeline speed must be greater than 0 for hologram " + id);
+                return;
+            }
+            state.timeline = timeline;
+            int keyframeTicks = plugin.getConfig().getInt("performance.animation-keyframe-ticks", 5);
+            state.keyframeTicks = Math.max(1, Math.min(MAX_TELEPORT_DURATION, keyframeTicks));
+            if (def.getBillboard() == HoloDefinition.BillboardMode.NONE) {
+                RotationUtil.yawPitchToQuaternion(baseLocation.getYaw(), baseLocation.getPitch(), state.rotation);
+            } else {
+                state.rotation[3] = 1; // Identity, the billboard decides the facing
+            }
+            state.textTranslationY = holoManager.isTextMounted(id) ? (float) def.getTextOffset() : 0; // Mounted text hangs below by translation
+            setRotationInterpolation(id, state.keyframeTicks);
+        }
 
-                // Also move text hologram below if it exists (for ITEM/BLOCK holograms)
-                Hologram<?> textHologram = holoManager.getActiveHologram(id + "_text");
-                if (textHologram != null) {
-                    Location textLoc = newLoc.clone();
+        state.table = MotionTable.get(def.getAnimationType(), def.getAnimationSpeed(), def.getAnimationRadius());
+        if (state.table != null && state.table.isTabulated() && state.table.getFrames() <= MAX_CACHED_POSITIONS) {
+            // Periodic paths revisit the same frames, so their packet positions are built once per frame
+            state.positions = new Vector3d[state.table.getFrames()];
+            state.textPositions = new Vector3d[state.table.getFrames()];
+        }
 
-                    // Calculate offsets based on billboard mode
-                    double xOffset = 0;
-                    double yOffset = def.getTextOffset(); // Use custom text offset
-                    double zOffset = 0;
+        // Offset of the text below from the animated hologram (for ITEM/BLOCK holograms)
+        state.textOffsetY = def.getTextOffset(); // Use custom text offset
+        if (def.getBillboard() == HoloDefinition.BillboardMode.NONE && def.getType() == HoloType.BLOCK) {
+            state.textOffsetX = (0.5 * def.getScale().getX()) + def.getTranslation().getX();
+            state.textOffsetZ = (0.5 * def.getScale().getZ()) + def.getTranslation().getZ();
+        }
 
-                    if (def.getBillboard() == HoloDefinition.BillboardMode.NONE && def.getType() == HoloType.BLOCK) {
-                        xOffset = (0.5 * def.getScale().getX()) + def.getTranslation().getX();
-                        zOffset = (0.5 * def.getScale().getZ()) + def.getTranslation().getZ();
-                    }
+        // Rotation is sent as a transformation the client interpolates, one keyframe per quarter turn at most
+        if (def.getAnimationType() == HoloDefinition.AnimationType.ROTATE) {
+            double degreesPerTick = Math.abs(def.getAnimationSpeed() * 0.1 * DEGREES_PER_TIMER_UNIT);
+            int keyframeTicks = degreesPerTick > 0 ? (int) (MAX_ROTATION_PER_KEYFRAME / degreesPerTick) : MAX_TELEPORT_DURATION;
+            state.keyframeTicks = Math.max(1, Math.min(MAX_TELEPORT_DURATION, keyframeTicks));
+            state.pitch = def.getBillboard() == HoloDefinition.BillboardMode.NONE ? baseLocation.getPitch() : 0;
+            setRotationInterpolation(id, state.keyframeTicks);
+        }
 
-                    textLoc.add(xOffset, yOffset, zOffset);
-                    textHologram.teleport(textLoc);
-                }
+        // Smooth motions are sent as sparse keyframes the client interpolates between
+        if (isInterpolated(def.getAnimationType())) {
+            int keyframeTicks = plugin.getConfig().getInt("performance.animation-keyframe-ticks", 5);
+            state.keyframeTicks = Math.max(1, Math.min(MAX_TELEPORT_DURATION, keyframeTicks));
+            if (state.keyframeTicks > 1) {
+                setTeleportDuration(id, state.keyframeTicks);
             }
-        }.runTaskTimer(plugin, 0L, 1L); // Run every tick
+        }
+
+        // Mid-range viewers get every n-th keyframe, interpolated over the whole gap so they move smoothly
+        state.midKeyframes = Math.max(1, (lodMidInterval + state.keyframeTicks - 1) / state.keyframeTicks);
+        state.midDuration = Math.min(MAX_TELEPORT_DURATION, state.midKeyframes * state.keyframeTicks);
 
-        animationTasks.put(id, task);
+        if (motionCount == motions.length) {
+            motions = Arrays.copyOf(motions, motionCount * 2);
+        }
+        state.index = motionCount;
+        motions[motionCount++] = state;
+        motionsById.put(id, state);
+        ensureTicker();
     }
 
     /**
      * Stop animation for a hologram
      */
     public void stopAnimation(String id) {
-        BukkitTask task = animationTasks.remove(id);
-        if (task != null) {
-            task.cancel();
+        MotionState state = motionsById.remove(id);
+        if (state == null) {
+            return;
         }
-        animationTimers.remove(id);
-        baseLocations.remove(id);
+
+        // Swap the last entry into the freed slot
+        int last = --motionCount;
+        if (state.index != last) {
+            motions[state.index] = motions[last];
+            motions[state.index].index = state.index;
+        }
+        motions[last] = null;
     }
 
     /**
@@ -124,139 +200,655 @@ public class AnimationManager {
             return;
         }
 
-        BukkitTask task = new BukkitRunnable() {
-            private double angle = 0;
+        // Particles are sent as packets, so resolve the PacketEvents particle type once
+        ParticleType<?> particleType = ParticleTypes.getByName("minecraft:" + particle.getKey().getKey());
+        if (particleType == null) {
+            plugin.getLogger().warning("Invalid particle type: " + def.getParticleType());
+            return;
+        }
+
+        if (emitter == null) {
+            emitter = new ParticleEmitter(plugin.getConfig().getInt("performance.max-particles-per-tick", 2000));
+        }
+
+        ParticleState state = new ParticleState(id, def, new com.github.retrooper.packetevents.protocol.particle.Particle<>(particleType));
+
+        // Calculate offset based on billboard mode and hologram type
+        // For block holograms with FIXED billboard (NONE), we need special handling
+        if (def.getBillboard() == HoloDefinition.BillboardMode.NONE && def.getType() == HoloType.BLOCK) {
+            // When billboard is NONE (FIXED), Minecraft renders blocks with their
+            // bottom-southwest corner at the entity's location, not centered.
+            // This means the visual block appears offset from the spawn point.
+            // We need to shift particles to match the visual center (+0.5 scaled, plus translation):
+            state.offsetX = (0.5 * def.getScale().getX()) + def.getTranslation().getX();
+            state.offsetY = (0.5 * def.getScale().getY()) + def.getTranslation().getY();
+            state.offsetZ = (0.5 * def.getScale().getZ()) + def.getTranslation().getZ();
+        } else {
+            // For CENTER billboard or other types, particles spawn at a standard offset
+            state.offsetY = 0.5;
+        }
+        if (particleCount == particles.length) {
+            particles = Arrays.copyOf(particles, particleCount * 2);
+        }
+        state.index = particleCount;
+        particles[particleCount++] = state;
+        particlesById.put(id, state);
+        ensureTicker();
+    }
+
+    /**
+     * Stop particle effects for a hologram
+     */
+    public void stopParticles(String id) {
+        ParticleState state = particlesById.remove(id);
+        if (state == null) {
+            return;
+        }
+
+        // Swap the last entry into the freed slot
+        int last = --particleCount;
+        if (state.index != last) {
+            particles[state.index] = particles[last];
+            particles[state.index].index = state.index;
+        }
+        particles[last] = null;
+    }
+
+    /**
+     * Stop all animations and particles
+     */
+    public void stopAll() {
+        Arrays.fill(motions, 0, motionCount, null);
+        motionCount = 0;
+        motionsById.clear();
+        Arrays.fill(particles, 0, particleCount, null);
+        particleCount = 0;
+        particlesById.clear();
+        particleCursor = 0;
+        if (emitter != null) {
+            emitter.clear();
+            emitter = null; // Picks up a new cap from the config on the next start
+        }
+        MotionTable.clearCache();
+
+        if (ticker != null) {
+            ticker.cancel();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Get the number of holograms with an active animation
+     */
+    public int getAnimationCount() {
+        return motionCount;
+    }
+
+    /**
+     * Get the number of holograms with active particle effects
+     */
+    public int getParticleEffectCount() {
+        return particleCount;
+    }
+
+    /**
+     * Start the shared ticker if it isn't running
+     */
+    private void ensureTicker() {
+        if (ticker != null) {
+            return;
+        }
 
+        ticker = new BukkitRunnable() {
             @Override
             public void run() {
-                // Get the actual hologram object to get its current location
-                Hologram<?> hologram = holoManager.getActiveHologram(id);
-                if (hologram == null) {
-                    stopParticles(id);
-                    return;
-                }
+                tick();
+            }
+        };
+        ticker.runTaskTimer(plugin, 0L, 1L); // Run every tick
+    }
+
+    /**
+     * Advance every animation, and every particle effect on particle ticks
+     * Entries whose hologram is gone are removed while walking the array
+     */
+    private void tick() {
+        if (motionCount == 0 && particleCount == 0) {
+            ticker.cancel(); // Nothing left to animate, restarted by the next start call
+            ticker = null;
+            return;
+        }
+
+        tickCounter++;
+
+        long allocatedBefore = allocationCounter != null ? allocationCounter.getCurrentThreadAllocatedBytes() : 0;
+        for (int i = 0; i < motionCount; ) {
+            MotionState state = motions[i];
+            if (tickMotion(state)) {
+                i++;
+            } else {
+                stopAnimation(state.id); // Last entry moves into slot i, so don't advance
+            }
+        }
+        if (allocationCounter != null && motionCount > 0) {
+            motionAllocatedBytes += allocationCounter.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            motionTicksMeasured++;
+        }
 
-                Location loc = hologram.getLocation();
-                if (loc == null || loc.getWorld() == null) {
-                    stopParticles(id);
-                    return;
+        if (tickCounter % PARTICLE_INTERVAL == 0 && particleCount > 0) {
+            // Remove effects whose hologram is gone
+            for (int i = 0; i < particleCount; ) {
+                ParticleState state = particles[i];
+                if (holoManager.getActiveHologram(state.id) != null) {
+                    i++;
+                } else {
+                    stopParticles(state.id); // Last entry moves into slot i, so don't advance
                 }
+            }
 
-                // Spawn particles in a circle around the hologram
-                double radius = def.getParticleRadius();
-                int count = def.getParticleCount();
+            // Start at the first effect the cap deferred last time, so the same holograms aren't always the ones left out.
+            // Smaller effects after a deferred one may still fit, so keep scanning.
+            int count = particleCount;
+            int firstDeferred = -1;
+            for (int n = 0; n < count; n++) {
+                int i = (particleCursor + n) % count;
+                if (!tickParticles(particles[i]) && firstDeferred < 0) {
+                    firstDeferred = i;
+                }
+            }
+            if (firstDeferred >= 0) {
+                particleCursor = firstDeferred;
+            }
+            emitter.flush();
+        }
+    }
 
-                // Calculate offset based on billboard mode and hologram type
-                double xOffset = 0;
-                double yOffset;
-                double zOffset = 0;
+    /**
+     * Move an animated hologram one step, returns false if the hologram no longer exists or the animation has ended
+     * Positions come from the shared motion table and are written into the state's reused locations
+     */
+    private boolean tickMotion(MotionState state) {
+        Hologram<?> hologram = holoManager.getActiveHologram(state.id);
+        if (hologram == null) {
+            return false;
+        }
 
-                // For block holograms with FIXED billboard (NONE), we need special handling
-                if (def.getBillboard() == HoloDefinition.BillboardMode.NONE && def.getType() == HoloType.BLOCK) {
-                    // When billboard is NONE (FIXED), Minecraft renders blocks with their
-                    // bottom-southwest corner at the entity's location, not centered.
-                    // This means the visual block appears offset from the spawn point.
-                    // We need to shift particles to match the visual center:
+        long tick = ++state.tick;
 
-                    // X offset: +0.5 scaled by X scale, plus translation X
-                    xOffset = (0.5 * def.getScale().getX()) + def.getTranslation().getX();
+        // Nobody within view range, keep the animation clock running without moving anything
+        if (!holoManager.getViewerTracker().hasViewers(state.id)) {
+            culledMotionTicks++;
+            return true;
+        }
 
-                    // Y offset: +0.5 scaled by Y scale, plus translation Y
-                    yOffset = (0.5 * def.getScale().getY()) + def.getTranslation().getY();
+        if (state.def.getAnimationType() == HoloDefinition.AnimationType.ROTATE) {
+            tickRotation(state, hologram, tick);
+            return true;
+        }
+        if (state.timeline != null) {
+            return tickTimeline(state, hologram, tick);
+        }
 
-                    // Z offset: +0.5 scaled by Z scale, plus translation Z
-                    zOffset = (0.5 * def.getScale().getZ()) + def.getTranslation().getZ();
-                } else {
-                    // For CENTER billboard or other types, particles spawn at a standard offset
-                    yOffset = 0.5;
+        double x;
+        double y;
+        double z;
+        if (state.table != null) {
+            if (state.keyframeTicks > 1) {
+                if (state.ticksUntilKeyframe-- > 0) {
+                    return true; // Client is still interpolating towards the last keyframe
                 }
+                state.ticksUntilKeyframe = state.keyframeTicks - 1;
+                tick += state.keyframeTicks; // Send where the hologram should be once interpolation finishes
+            }
+            x = state.table.getX(tick);
+            y = state.table.getY(tick);
+            z = state.table.getZ(tick);
+            state.tableFrame = state.positions != null ? state.table.frameAt(tick) : -1;
+        } else {
+            // SHAKE: random shake/vibrate
+            double amplitude = state.def.getAnimationRadius() * 0.2;
+            x = (state.nextRandom() - 0.5) * amplitude;
+            y = (state.nextRandom() - 0.5) * amplitude;
+            z = (state.nextRandom() - 0.5) * amplitude;
+        }
+
+        Location location = state.location;
+        location.setX(state.base.getX() + x);
+        location.setY(state.base.getY() + y);
+        location.setZ(state.base.getZ() + z);
+
+        // Also move text hologram below if it exists (for ITEM/BLOCK holograms)
+        // Text mounted as a passenger follows its vehicle on the client, so it needs no packets of its own
+        Hologram<?> textHologram = holoManager.isTextMounted(state.id) ? null : holoManager.getActiveHologram(state.textId);
+        Location textLocation = state.textLocation;
+        if (textHologram != null) {
+            textLocation.setX(location.getX() + state.textOffsetX);
+            textLocation.setY(location.getY() + state.textOffsetY);
+            textLocation.setZ(location.getZ() + state.textOffsetZ);
+        }
+
+        if (lodEnabled) {
+            sendMotion(state, hologram, textHologram);
+            return true;
+        }
+
+        // Actually move the hologram in-game
+        hologram.teleport(location);
+        if (textHologram != null) {
+            textHologram.teleport(textLocation);
+        }
+        return true;
+    }
+
+    /**
+     * Send the current position to each viewer according to their level of detail
+     * Near viewers get every update, mid-range viewers an update every mid-update-interval ticks and far viewers
+     * none (frozen pose). Mid-range viewers are switched to a teleport duration covering their whole interval.
+     * ROTATE and TIMELINE are exempt: they change the transformation through HologramLib's metadata updates,
+     * which go to all viewers at once and are already sent only once per keyframe.
+     */
+    private void sendMotion(MotionState state, Hologram<?> hologram, Hologram<?> textHologram) {
+        Set<Player> viewers = holoManager.getViewerTracker().getViewers(state.id);
+        if (viewers.isEmpty()) {
+            return;
+        }
+
+        boolean midFrame = ++state.lodFrame % state.midKeyframes == 0;
+        state.midViewers.retainAll(viewers); // Players who left are spawned again with the entity's own duration
+        boolean prepared = false;
+        WrapperPlayServerEntityTeleport packet = null;
+        WrapperPlayServerEntityTeleport textPacket = null;
+
+        for (Player viewer : viewers) {
+            double distanceSquared = viewer.getLocation(viewerLocation).distanceSquared(state.base);
+            boolean near = distanceSquared <= lodNearDistanceSquared;
+            if (!near && (!midFrame || distanceSquared > lodMidDistanceSquared)) {
+                lodUpdatesSkipped++;
+                continue;
+            }
 
-                for (int i = 0; i < count; i++) {
-                    double particleAngle = angle + (2 * Math.PI * i / count);
-                    double x = loc.getX() + xOffset + radius * Math.cos(particleAngle);
-                    double z = loc.getZ() + zOffset + radius * Math.sin(particleAngle);
-                    double y = loc.getY() + yOffset;
+            // Switch the viewer's interpolation when they move between the near and mid tiers
+            if (near ? state.midViewers.remove(viewer) : state.midViewers.add(viewer)) {
+                sendTeleportDuration(viewer, hologram, textHologram,
+                    near ? (state.keyframeTicks > 1 ? state.keyframeTicks : 0) : state.midDuration);
+            }
 
-                    Location particleLoc = new Location(loc.getWorld(), x, y, z);
-                    loc.getWorld().spawnParticle(particle, particleLoc, 1, 0, 0, 0, 0);
+            // Update the state's packets once per frame, only if someone needs them
+            if (!prepared) {
+                prepared = true;
+                packet = state.packet = teleportPacket(state.packet, hologram.getEntityID(),
+                    position(state.positions, state.tableFrame, state.location), state.location);
+                if (textHologram != null) {
+                    textPacket = state.textPacket = teleportPacket(state.textPacket, textHologram.getEntityID(),
+                        position(state.textPositions, state.tableFrame, state.textLocation), state.textLocation);
                 }
+            }
 
-                angle += 0.1; // Rotate particles
+            PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, packet);
+            if (textPacket != null) {
+                PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, textPacket);
             }
-        }.runTaskTimer(plugin, 0L, 2L); // Run every 2 ticks
+            lodUpdatesSent++;
+        }
+    }
 
-        particleTasks.put(id, task);
+    /**
+     * Set the teleport interpolation of a hologram, and the text below it, for a single viewer
+     */
+    private void sendTeleportDuration(Player viewer, Hologram<?> hologram, Hologram<?> textHologram, int ticks) {
+        List<EntityData> data = List.of(new EntityData(TELEPORT_DURATION_INDEX, EntityDataTypes.INT, ticks));
+        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, new WrapperPlayServerEntityMetadata(hologram.getEntityID(), data));
+        if (textHologram != null) {
+            PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, new WrapperPlayServerEntityMetadata(textHologram.getEntityID(), data));
+        }
     }
 
     /**
-     * Stop particle effects for a hologram
+     * Point a reused teleport packet at a new position, creating it on first use
+     * Entity IDs don't change while an animation runs, a respawned hologram starts a new animation state
      */
-    public void stopParticles(String id) {
-        BukkitTask task = particleTasks.remove(id);
-        if (task != null) {
-            task.cancel();
+    private WrapperPlayServerEntityTeleport teleportPacket(WrapperPlayServerEntityTeleport packet, int entityId,
+                                                           Vector3d position, Location location) {
+        if (packet == null) {
+            return new WrapperPlayServerEntityTeleport(entityId, position, location.getYaw(), location.getPitch(), false);
         }
+        packet.setPosition(position);
+        return packet;
     }
 
     /**
-     * Stop all animations and particles
+     * Get the packet position of a location, from the per-frame cache when the motion is tabulated
      */
-    public void stopAll() {
-        animationTasks.values().forEach(BukkitTask::cancel);
-        animationTasks.clear();
-        particleTasks.values().forEach(BukkitTask::cancel);
-        particleTasks.clear();
-        animationTimers.clear();
+    private Vector3d position(Vector3d[] cache, int frame, Location location) {
+        if (cache == null || frame < 0) {
+            return new Vector3d(location.getX(), location.getY(), location.getZ()); // SHAKE and fast paths never repeat
+        }
+        Vector3d position = cache[frame];
+        if (position == null) {
+            position = cache[frame] = new Vector3d(location.getX(), location.getY(), location.getZ());
+        }
+        return position;
     }
 
     /**
-     * Calculate animated location based on animation type
+     * Load level of detail settings from the performance.animation-lod config section
      */
-    private Location calculateAnimatedLocation(Location base, HoloDefinition def, double timer) {
-        Location newLoc = base.clone();
-        double radius = def.getAnimationRadius();
-
-        switch (def.getAnimationType()) {
-            case ROTATE:
-                // Just rotate yaw, don't move position
-                newLoc.setYaw((float) (timer * 20 % 360));
-                break;
-
-            case BOUNCE:
-                // Move up and down
-                double bounceHeight = Math.sin(timer) * radius;
-                newLoc.add(0, bounceHeight, 0);
-                break;
-
-            case CIRCLE:
-                // Move in a horizontal circle
-                double circleX = Math.cos(timer) * radius;
-                double circleZ = Math.sin(timer) * radius;
-                newLoc.add(circleX, 0, circleZ);
-                break;
-
-            case SPIRAL:
-                // Move in a spiral (circle + vertical movement)
-                double spiralX = Math.cos(timer) * radius;
-                double spiralZ = Math.sin(timer) * radius;
-                double spiralY = (timer % (2 * Math.PI)) / (2 * Math.PI) * radius * 2 - radius;
-                newLoc.add(spiralX, spiralY, spiralZ);
-                break;
-
-            case SHAKE:
-                // Random shake/vibrate
-                double shakeX = (Math.random() - 0.5) * radius * 0.2;
-                double shakeY = (Math.random() - 0.5) * radius * 0.2;
-                double shakeZ = (Math.random() - 0.5) * radius * 0.2;
-                newLoc.add(shakeX, shakeY, shakeZ);
-                break;
-
-            case NONE:
-            default:
-                break;
-        }
-
-        return newLoc;
+    private void loadLodSettings() {
+        lodEnabled = plugin.getConfig().getBoolean("performance.animation-lod.enabled", true);
+        double near = plugin.getConfig().getDouble("performance.animation-lod.near-distance", 16.0);
+        double mid = Math.max(near, plugin.getConfig().getDouble("performance.animation-lod.mid-distance", 40.0));
+        lodNearDistanceSquared = near * near;
+        lodMidDistanceSquared = mid * mid;
+        lodMidInterval = Math.max(1, plugin.getConfig().getInt("performance.animation-lod.mid-update-interval", 10));
     }
-}
 
+    /**
+     * Get the number of per-viewer motion updates sent with level of detail enabled
+     */
+    public long getLodUpdatesSent() {
+        return lodUpdatesSent;
+    }
+
+    /**
+     * Get the number of per-viewer motion updates skipped because the viewer was too far away
+     */
+    public long getLodUpdatesSkipped() {
+        return lodUpdatesSkipped;
+    }
+
+    /**
+     * Get the average heap bytes allocated per tick by the motion loop, or -1 if the JVM can't measure it
+     * Includes the packets sent to viewers, so it grows with viewers on untabulated motions
+     */
+    public long getMotionBytesPerTick() {
+        if (allocationCounter == null) {
+            return -1;
+        }
+        return motionTicksMeasured > 0 ? motionAllocatedBytes / motionTicksMeasured : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads;
+            }
+        } catch (LinkageError ignored) {
+            // Not a HotSpot-based JVM
+        }
+        return null;
+    }
+
+    /**
+     * Get the number of animation ticks skipped because no player was within view range
+     */
+    public long getCulledMotionTicks() {
+        return culledMotionTicks;
+    }
+
+    /**
+     * Send the next rotation keyframe if due, rotating the hologram in place without teleporting it
+     */
+    private void tickRotation(MotionState state, Hologram<?> hologram, long tick) {
+        if (state.ticksUntilKeyframe-- > 0) {
+            return; // Client is still interpolating towards the last keyframe
+        }
+        state.ticksUntilKeyframe = state.keyframeTicks - 1;
+
+        // Rotation the hologram should have once the client has finished interpolating
+        double timer = (tick + state.keyframeTicks) * state.def.getAnimationSpeed() * 0.1;
+        float yaw = (float) (timer * DEGREES_PER_TIMER_UNIT % 360);
+        float[] quat = RotationUtil.yawPitchToQuaternion(yaw, state.pitch, state.rotation);
+
+        hologram.setLeftRotation(quat[0], quat[1], quat[2], quat[3]).update();
+
+        // Rotate the text below along with it (for ITEM/BLOCK holograms)
+        Hologram<?> textHologram = holoManager.getActiveHologram(state.textId);
+        if (textHologram != null) {
+            textHologram.setLeftRotation(quat[0], quat[1], quat[2], quat[3]).update();
+        }
+    }
+
+    /**
+     * Send the next timeline keyframe if due and different from the last one sent
+     * Returns false once a non-looping timeline has sent its last frame, leaving the hologram in its final pose
+     */
+    private boolean tickTimeline(MotionState state, Hologram<?> hologram, long tick) {
+        if (state.ticksUntilKeyframe-- > 0) {
+            return true; // Client is still interpolating towards the last keyframe
+        }
+        state.ticksUntilKeyframe = state.keyframeTicks - 1;
+
+        // Frame the hologram should show once the client has finished interpolating
+        long target = (long) ((tick + state.keyframeTicks) * state.def.getAnimationSpeed());
+        Timeline timeline = state.timeline;
+        float[] frame = state.frame;
+        timeline.copyFrame(timeline.frameAt(target), frame);
+
+        if (!Arrays.equals(frame, state.sentFrame)) {
+            System.arraycopy(frame, 0, state.sentFrame, 0, Timeline.STRIDE);
+
+            // Timeline values are relative to the hologram's own translation, scale and facing
+            HoloDefinition def = state.def;
+            float[] quat = state.timelineRotation;
+            System.arraycopy(frame, Timeline.ROTATION, quat, 0, 4);
+            RotationUtil.multiply(state.rotation, quat, quat);
+
+            hologram.setTranslation(
+                    (float) def.getTranslation().getX() + frame[Timeline.TRANSLATION],
+                    (float) def.getTranslation().getY() + frame[Timeline.TRANSLATION + 1],
+                    (float) def.getTranslation().getZ() + frame[Timeline.TRANSLATION + 2])
+                .setScale(
+                    (float) def.getScale().getX() * frame[Timeline.SCALE],
+                    (float) def.getScale().getY() * frame[Timeline.SCALE + 1],
+                    (float) def.getScale().getZ() * frame[Timeline.SCALE + 2])
+                .setLeftRotation(quat[0], quat[1], quat[2], quat[3])
+                .update();
+
+            // Transform the text below along with it (for ITEM/BLOCK holograms)
+            Hologram<?> textHologram = holoManager.getActiveHologram(state.textId);
+            if (textHologram != null) {
+                textHologram.setTranslation(
+                        frame[Timeline.TRANSLATION],
+                        state.textTranslationY + frame[Timeline.TRANSLATION + 1],
+                        frame[Timeline.TRANSLATION + 2])
+                    .setScale(
+                        (float) def.getScale().getX() * frame[Timeline.SCALE],
+                        (float) def.getScale().getY() * frame[Timeline.SCALE + 1],
+                        (float) def.getScale().getZ() * frame[Timeline.SCALE + 2])
+                    .setLeftRotation(quat[0], quat[1], quat[2], quat[3])
+                    .update();
+            }
+        }
+
+        return !timeline.isFinished(target);
+    }
+
+    /**
+     * Set how many ticks the client takes to interpolate transformation changes of a hologram and its text below
+     */
+    private void setRotationInterpolation(String id, int ticks) {
+        Hologram<?> hologram = holoManager.getActiveHologram(id);
+        if (hologram != null) {
+            hologram.setInterpolationDurationTransformation(ticks).update();
+        }
+
+        Hologram<?> textHologram = holoManager.getActiveHologram(id + "_text");
+        if (textHologram != null) {
+            textHologram.setInterpolationDurationTransformation(ticks).update();
+        }
+    }
+
+    /**
+     * Check if an animation type moves smoothly enough to be sent as interpolated keyframes
+     */
+    private boolean isInterpolated(HoloDefinition.AnimationType type) {
+        return type == HoloDefinition.AnimationType.BOUNCE
+            || type == HoloDefinition.AnimationType.CIRCLE
+            || type == HoloDefinition.AnimationType.SPIRAL;
+    }
+
+    /**
+     * Set how many ticks the client takes to interpolate teleports of a hologram and its text below
+     */
+    private void setTeleportDuration(String id, int ticks) {
+        Hologram<?> hologram = holoManager.getActiveHologram(id);
+        if (hologram != null) {
+            hologram.setTeleportDuration(ticks).update();
+        }
+
+        Hologram<?> textHologram = holoManager.getActiveHologram(id + "_text");
+        if (textHologram != null && !holoManager.isTextMounted(id)) {
+            textHologram.setTeleportDuration(ticks).update();
+        }
+    }
+
+    /**
+     * Queue one round of particles around a hologram for the players in its view range
+     * Returns false if the per-tick particle cap has been reached
+     */
+    private boolean tickParticles(ParticleState state) {
+        Hologram<?> hologram = holoManager.getActiveHologram(state.id);
+
+        // Animated holograms are moved with packets, so use the animated position if there is one
+        MotionState motion = motionsById.get(state.id);
+        Location loc = motion != null ? displayedLocation(motion) : hologram.getLocation();
+        if (loc == null || loc.getWorld() == null) {
+            return true;
+        }
+
+        // Nobody in range, keep rotating without building any packets
+        Set<Player> viewers = holoManager.getViewerTracker().getViewers(state.id);
+        if (viewers.isEmpty()) {
+            state.angle += 0.1;
+            return true;
+        }
+
+        int count = state.def.getParticleCount();
+        if (!emitter.reserve(count * viewers.size())) {
+            return false;
+        }
+
+        // Spawn particles in a circle around the hologram
+        double radius = state.def.getParticleRadius();
+        for (int i = 0; i < count; i++) {
+            double particleAngle = state.angle + (2 * Math.PI * i / count);
+            double x = loc.getX() + state.offsetX + radius * Math.cos(particleAngle);
+            double z = loc.getZ() + state.offsetZ + radius * Math.sin(particleAngle);
+            double y = loc.getY() + state.offsetY;
+
+            emitter.emit(viewers, new WrapperPlayServerParticle(state.particle, false, new Vector3d(x, y, z), NO_OFFSET, 0, 1));
+        }
+
+        state.angle += 0.1; // Rotate particles
+        return true;
+    }
+
+    /**
+     * Get where viewers currently see an animated hologram
+     * Keyframed motions send the position the hologram reaches once the client has interpolated, so the
+     * current position on the path is computed from the table instead
+     */
+    private Location displayedLocation(MotionState motion) {
+        if (motion.table == null || motion.keyframeTicks <= 1) {
+            return motion.location;
+        }
+
+        Location displayed = motion.displayedLocation;
+        displayed.setX(motion.base.getX() + motion.table.getX(motion.tick));
+        displayed.setY(motion.base.getY() + motion.table.getY(motion.tick));
+        displayed.setZ(motion.base.getZ() + motion.table.getZ(motion.tick));
+        return displayed;
+    }
+
+    /**
+     * Get the particle emitter, or null if no particle effect has started yet
+     */
+    public ParticleEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Animation state of one hologram
+     */
+    private static class MotionState {
+        private final String id;
+        private final String textId; // ID of the text hologram below (for ITEM/BLOCK holograms)
+        private final HoloDefinition def;
+        private final Location base; // Original location
+        private final Location location; // Reused for every teleport
+        private final Location textLocation; // Reused for every teleport of the text below
+        private final Location displayedLocation; // Reused for the position viewers currently see
+        private double textOffsetX;
+        private double textOffsetY;
+        private double textOffsetZ;
+        private MotionTable table; // Null for ROTATE, SHAKE and TIMELINE
+        private Timeline timeline; // TIMELINE only
+        private final float[] frame = new float[Timeline.STRIDE]; // TIMELINE only, reused frame buffer
+        private final float[] sentFrame = new float[Timeline.STRIDE]; // TIMELINE only, last frame sent
+        private final float[] timelineRotation = new float[4]; // TIMELINE only, reused quaternion
+        private float textTranslationY; // TIMELINE only, translation of the text below before the timeline's
+        private long tick; // Animation progress
+        private long lodFrame; // Position updates computed, for mid-range decimation
+        private int midKeyframes = 1; // Keyframes between mid-range updates
+        private int midDuration; // Teleport duration for mid-range viewers
+        private final Set<Player> midViewers = new HashSet<>(); // Viewers currently switched to the mid-range duration
+        private Vector3d[] positions; // Tabulated motions only, packet position per table frame
+        private Vector3d[] textPositions; // Same for the text below
+        private int tableFrame = -1; // Table frame of the current position, -1 if it isn't cached
+        private WrapperPlayServerEntityTeleport packet; // Reused per-viewer teleport
+        private WrapperPlayServerEntityTeleport textPacket; // Same for the text below
+        private long randomState; // SHAKE only, xorshift state
+        private int keyframeTicks = 1; // Ticks between teleports, 1 = every tick without interpolation
+        private int ticksUntilKeyframe;
+        private float pitch; // ROTATE only, pitch kept while spinning
+        private final float[] rotation = new float[4]; // ROTATE: reused quaternion, TIMELINE: base facing
+        private int index; // Slot in the motions array
+
+        private MotionState(String id, HoloDefinition def, Location base) {
+            this.id = id;
+            this.textId = id + "_text";
+            this.def = def;
+            this.base = base;
+            this.location = base.clone();
+            this.textLocation = base.clone();
+            this.displayedLocation = base.clone();
+
+            // Seed per hologram so shaking holograms don't move in lockstep
+            long seed = id.hashCode() * 0x9E3779B97F4A7C15L ^ System.nanoTime();
+            this.randomState = seed != 0 ? seed : 0x9E3779B97F4A7C15L;
+        }
+
+        /**
+         * Next pseudo-random double in [0, 1) from a xorshift64 generator
+         */
+        private double nextRandom() {
+            long x = randomState;
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+            randomState = x;
+            return (x >>> 11) * 0x1.0p-53;
+        }
+    }
+
+    /**
+     * Particle effect state of one hologram
+     */
+    private static class ParticleState {
+        private final String id;
+        private final HoloDefinition def;
+        private final com.github.retrooper.packetevents.protocol.particle.Particle<?> particle;
+        private double offsetX; // Offset of the particle circle from the hologram
+        private double offsetY;
+        private double offsetZ;
+        private double angle;
+        private int index; // Slot in the particles array
+
+        private ParticleState(String id, HoloDefinition def, com.github.retrooper.packetevents.protocol.particle.Particle<?> particle) {
+            this.id = id;
+            this.def = def;
+            this.particle = particle;
+        }
+    }
+}
@@ -5,7 +5,10 @@ import dev.gotcraft.gotCraftHolo.GotCraftHolo;
 import dev.gotcraft.gotCraftHolo.model.HoloDefinition;
 import dev.gotcraft.gotCraftHolo.model.HoloType;
 import dev.gotcraft.gotCraftHolo.model.LeaderboardConfig;
+import dev.gotcraft.gotCraftHolo.model.TextTemplate;
 import dev.gotcraft.gotCraftHolo.service.PlaceholderService;
+import dev.gotcraft.gotCraftHolo.util.MiniMessageUtil;
+import dev.gotcraft.gotCraftHolo.util.RotationUtil;
 import com.maximde.hologramlib.hologram.HologramManager;
 import com.maximde.hologramlib.hologram.Hologram;
 import com.maximde.hologramlib.hologram.TextHologram;
@@ -18,13 +21,16 @@ import com.github.retrooper.packetevents.protocol.item.type.ItemTypes;
 import com.github.retrooper.packetevents.protocol.world.states.type.StateType;
 import com.github.retrooper.packetevents.protocol.world.states.type.StateTypes;
 import com.github.retrooper.packetevents.protocol.world.states.WrappedBlockState;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Display;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 /**
@@ -32,17 +38,33 @@ import java.util.logging.Level;
  */
 public class HoloManager {
 
+    private static final int MAX_RENDER_BUFFER = 8192;
+    private static final ThreadLocal<StringBuilder> RENDER_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
     private final GotCraftHolo plugin;
     private final Map<String, HoloDefinition> definitions;
     private final Map<String, Object> activeHolograms; // Stores Hologram<?> and LeaderboardHologram
     private final File dataFolder;
     private HologramManager hologramManager;
     private AnimationManager animationManager;
+    private final RefreshScheduler refreshScheduler;
+    private final ViewerTracker viewerTracker;
+    private final SpatialIndex spatialIndex;
+    private final Map<String, HologramRenderState> renderStates; // Keyed like activeHolograms
+    private final Set<String> mountedText; // IDs whose text below rides the item/block as a passenger
+    private final AtomicLong textUpdatesSent = new AtomicLong();
+    private final AtomicLong textUpdatesSkipped = new AtomicLong();
 
     public HoloManager(GotCraftHolo plugin) {
         this.plugin = plugin;
         this.definitions = new ConcurrentHashMap<>();
         this.activeHolograms = new ConcurrentHashMap<>();
+        this.refreshScheduler = new RefreshScheduler();
+        this.spatialIndex = new SpatialIndex();
+        this.viewerTracker = new ViewerTracker(plugin, this);
+        this.viewerTracker.configure(plugin.getConfig().getConfigurationSection("performance.visibility"));
+        this.renderStates = new ConcurrentHashMap<>();
+        this.mountedText = ConcurrentHashMap.newKeySet();
         this.dataFolder = new File(plugin.getDataFolder(), "data");
         // Note: AnimationManager needs this HoloManager, so we initialize it after
         this.animationManager = null;
@@ -63,10 +85,20 @@ public class HoloManager {
 
     /**
      * Load all holograms from disk
+     * Only holograms in loaded chunks are spawned, the rest are spawned by {@link WorldListener} when their chunk loads
      */
     public void loadAll() {
         definitions.clear();
         activeHolograms.clear();
+        renderStates.clear();
+        mountedText.clear();
+        refreshScheduler.clear();
+        viewerTracker.clear();
+        viewerTracker.configure(plugin.getConfig().getConfigurationSection("performance.visibility"));
+        spatialIndex.clear();
+        if (plugin.getTextAnimationManager() != null) {
+            plugin.getTextAnimationManager().clearSubscriptions();
+        }
 
         File[] files = dataFolder.listFiles((dir, name) -> name.endsWith(".yml"));
         if (files == null || files.length == 0) {
@@ -75,18 +107,23 @@ public class HoloManager {
         }
 
         int loaded = 0;
+        int active = 0;
         for (File file : files) {
             try {
-                HoloDefinition def = HoloDefinition.load(file);
+                HoloDefinition def = HoloDefinition.load(file, plugin.getConfig().getConfigurationSection("settings.defaults"));
                 definitions.put(def.getId(), def);
-                spawnHologram(def);
+                spatialIndex.add(def);
+                if (isChunkLoaded(def)) {
+                    spawnHologram(def); // Others are spawned when their chunk loads
+                    active++;
+                }
                 loaded++;
             } catch (Exception e) {
                 plugin.getLogger().log(Level.SEVERE, "Failed to load hologram from " + file.getName(), e);
             }
         }
 
-        plugin.getLogger().info("Loaded " + loaded + " hologram(s).");
+        plugin.getLogger().info("Loaded " + loaded + " hologram(s), " + active + " in loaded chunks.");
     }
 
     /**
@@ -118,6 +155,11 @@ public class HoloManager {
         if (animationManager != null) {
             animationManager.stopAll();
         }
+        refreshScheduler.clear();
+        viewerTracker.clear();
+        if (plugin.getTextAnimationManager() != null) {
+            plugin.getTextAnimationManager().clearSubscriptions();
+        }
 
         for (Object obj : activeHolograms.values()) {
             if (obj instanceof Hologram) {
@@ -127,6 +169,8 @@ public class HoloManager {
             }
         }
         activeHolograms.clear();
+        renderStates.clear();
+        mountedText.clear();
     }
 
     /**
@@ -138,7 +182,9 @@ public class HoloManager {
         }
 
         HoloDefinition def = new HoloDefinition(id, type, location);
+        def.setViewRange(HoloDefinition.defaultViewRange(plugin.getConfig().getConfigurationSection("settings.defaults"), type));
         definitions.put(id, def);
+        spatialIndex.add(def);
 
         // Don't spawn or save yet - let the command handler configure it first
         // This prevents spawning with default STONE material for items/blocks
@@ -155,11 +201,33 @@ public class HoloManager {
             return false;
         }
 
-        // Stop animations and particles
+        despawnHologram(id);
+        spatialIndex.remove(id);
+
+        File file = new File(dataFolder, id + ".yml");
+        if (file.exists()) {
+            file.delete();
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove the spawned holograms of a definition and everything that keeps them updated
+     * The definition itself stays loaded, so the hologram can be spawned again later
+     */
+    private void despawnHologram(String id) {
+        // IMPORTANT: Stop animations and particles FIRST before removing holograms
+        // This prevents tasks from trying to access deleted holograms
         if (animationManager != null) {
             animationManager.stopAnimation(id);
             animationManager.stopParticles(id);
         }
+        refreshScheduler.unschedule(id);
+        viewerTracker.untrackHologram(id);
+        if (plugin.getTextAnimationManager() != null) {
+            plugin.getTextAnimationManager().unsubscribe(id);
+        }
 
         // Remove main hologram
         Object hologramObj = activeHolograms.remove(id);
@@ -176,13 +244,96 @@ public class HoloManager {
         if (textHologramObj instanceof Hologram) {
             hologramManager.remove((Hologram<?>) textHologramObj);
         }
+        renderStates.remove(id);
+        renderStates.remove(id + "_text");
+        mountedText.remove(id);
+    }
 
-        File file = new File(dataFolder, id + ".yml");
-        if (file.exists()) {
-            file.delete();
+    /**
+     * Spawn the holograms of every loaded definition in a chunk that isn't spawned yet (main thread)
+     * A world's spawn chunks load before its WorldLoadEvent, so unbound holograms are bound to the world here
+     */
+    public void activateChunk(World world, int chunkX, int chunkZ) {
+        for (HoloDefinition def : spatialIndex.getInChunk(world.getName(), chunkX, chunkZ)) {
+            if (!def.isWorldLoaded() && !def.bindWorld(world)) {
+                continue;
+            }
+            if (!isActive(def.getId())) {
+                spawnHologram(def);
+            }
         }
+    }
 
-        return true;
+    /**
+     * Despawn the holograms in a chunk, leaving their definitions loaded (main thread)
+     */
+    public void deactivateChunk(World world, int chunkX, int chunkZ) {
+        for (HoloDefinition def : spatialIndex.getInChunk(world.getName(), chunkX, chunkZ)) {
+            if (isActive(def.getId())) {
+                despawnHologram(def.getId());
+            }
+        }
+    }
+
+    /**
+     * Bind the holograms of a world that just loaded and spawn those in loaded chunks (main thread)
+     */
+    public void bindWorld(World world) {
+        int bound = 0;
+        for (HoloDefinition def : spatialIndex.getInWorld(world.getName())) {
+            if (def.bindWorld(world)) {
+                bound++;
+                if (!isActive(def.getId()) && isChunkLoaded(def)) {
+                    spawnHologram(def);
+                }
+            }
+        }
+
+        if (bound > 0) {
+            plugin.getLogger().info("Bound " + bound + " hologram(s) to world " + world.getName());
+        }
+    }
+
+    /**
+     * Despawn the holograms of a world that is unloading and release the world (main thread)
+     * Their definitions stay loaded and are bound again when the world loads
+     */
+    public void unbindWorld(World world) {
+        for (HoloDefinition def : spatialIndex.getInWorld(world.getName())) {
+            if (isActive(def.getId())) {
+                despawnHologram(def.getId());
+            }
+            def.unbindWorld();
+        }
+    }
+
+    /**
+     * Check if a hologram is spawned, i.e. its chunk is loaded
+     */
+    public boolean isActive(String id) {
+        return activeHolograms.containsKey(id);
+    }
+
+    /**
+     * Get the number of spawned holograms (not counting text below items/blocks)
+     */
+    public int getActiveCount() {
+        int count = 0;
+        for (String id : definitions.keySet()) {
+            if (activeHolograms.containsKey(id)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Check if the chunk a hologram is in is loaded
+     */
+    private boolean isChunkLoaded(HoloDefinition def) {
+        Location location = def.getLocation();
+        World world = location != null ? location.getWorld() : null;
+        return world != null && world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4);
     }
 
     /**
@@ -206,32 +357,14 @@ public class HoloManager {
         try {
             def.save(dataFolder);
 
-            // IMPORTANT: Stop animations and particles FIRST before removing holograms
-            // This prevents tasks from trying to access deleted holograms
-            if (animationManager != null) {
-                animationManager.stopAnimation(def.getId());
-                animationManager.stopParticles(def.getId());
-            }
+            despawnHologram(def.getId());
+            spatialIndex.add(def); // Location or view range may have changed
 
-            // Remove old main hologram
-            Object oldHologramObj = activeHolograms.remove(def.getId());
-            if (oldHologramObj != null) {
-                if (oldHologramObj instanceof Hologram) {
-                    hologramManager.remove((Hologram<?>) oldHologramObj);
-                } else if (oldHologramObj instanceof LeaderboardHologram) {
-                    hologramManager.remove((LeaderboardHologram) oldHologramObj);
-                }
-            }
-
-            // Remove old text hologram below item/block if it exists
-            Object oldTextHologramObj = activeHolograms.remove(def.getId() + "_text");
-            if (oldTextHologramObj instanceof Hologram) {
-                hologramManager.remove((Hologram<?>) oldTextHologramObj);
-            }
-
-            // Spawn new hologram (and text below if applicable)
+            // Spawn new hologram (and text below if applicable), unless its chunk isn't loaded
             // This will start animations/particles if enabled in the definition
-            spawnHologram(def);
+            if (isChunkLoaded(def)) {
+                spawnHologram(def);
+            }
         } catch (IOException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to update hologram " + def.getId(), e);
         }
@@ -239,67 +372,299 @@ public class HoloManager {
 
     /**
      * Refresh hologram text (for placeholders and animations)
+     * Renders on the calling thread, use {@link RefreshPipeline} for off-thread rendering
      */
     public void refreshHologram(String id) {
+        RenderRequest request = prepareRefresh(id);
+        if (request != null) {
+            applyRendered(request, renderText(request.getTemplate(), null, request.getState(), request.getAnimationPhase()));
+        }
+    }
+
+    /**
+     * Snapshot the compiled text of a hologram so it can be rendered off the main thread
+     * Returns null if the hologram has no text hologram to refresh
+     */
+    public RenderRequest prepareRefresh(String id) {
         HoloDefinition def = definitions.get(id);
         if (def == null) {
-            return;
+            return null;
         }
 
-        // Handle TEXT type holograms
+        // TEXT holograms refresh themselves, ITEM/BLOCK holograms refresh the text below them
+        String key;
         if (def.getType() == HoloType.TEXT) {
-            Object hologramObj = activeHolograms.get(id);
-            if (!(hologramObj instanceof TextHologram)) {
-                return;
-            }
+            key = id;
+        } else if (def.getType() == HoloType.ITEM || def.getType() == HoloType.BLOCK) {
+            key = id + "_text";
+        } else {
+            return null;
+        }
 
-            TextHologram textHologram = (TextHologram) hologramObj;
-            String text = def.getText();
+        Object hologramObj = activeHolograms.get(key);
+        if (!(hologramObj instanceof TextHologram)) {
+            return null;
+        }
 
-            // Process placeholders
-            if (PlaceholderService.isEnabled() && PlaceholderService.containsPlaceholders(text)) {
-                text = PlaceholderService.setPlaceholders(text);
-            }
+        TextTemplate template = def.getTemplate();
 
-            // Process text animations
-            if (plugin.getTextAnimationManager() != null &&
-                plugin.getTextAnimationManager().containsAnimations(text)) {
-                text = plugin.getTextAnimationManager().processAnimations(text);
-            }
+        // If no text below an item/block, remove the text hologram
+        if (!key.equals(id) && (template.getSource().isEmpty() || def.getLineCount() == 0)) {
+            hologramManager.remove((TextHologram) hologramObj);
+            activeHolograms.remove(key);
+            renderStates.remove(key);
+            mountedText.remove(id);
+            return null;
+        }
 
-            textHologram.setMiniMessageText(text).update();
+        HologramRenderState state = renderStates.computeIfAbsent(key, k -> new HologramRenderState());
+        return new RenderRequest(id, key, template, state, def.getAnimationPhase());
+    }
+
+    /**
+     * Render a compiled template, resolving placeholders on the calling thread
+     */
+    public String renderText(TextTemplate template, int animationPhase) {
+        return renderText(template, null, null, animationPhase);
+    }
+
+    /**
+     * Render a compiled template using placeholder values resolved ahead of time
+     * Placeholders missing from the values are resolved on the calling thread.
+     * With a render state, only dynamic lines are rendered and the full text is rebuilt only if one of them changed.
+     * Text animations are rendered at the shared animation clock plus the hologram's phase, and text
+     * without placeholders is cached in the render state per combination of animation frames.
+     * Safe to call off the main thread for thread-safe expansions.
+     */
+    public String renderText(TextTemplate template, Map<String, String> placeholderValues, HologramRenderState state,
+                             int animationPhase) {
+        if (!template.isDynamic()) {
+            return template.getSource();
         }
-        // Handle text below ITEM/BLOCK holograms
-        else if (def.getType() == HoloType.ITEM || def.getType() == HoloType.BLOCK) {
-            // Get the text hologram that appears below the item/block
-            Object hologramObj = activeHolograms.get(id + "_text");
-            if (!(hologramObj instanceof TextHologram)) {
-                return;
+
+        // Read the clock once so every animation (and the frame cache key) sees the same tick
+        TextAnimationManager textAnimationManager = plugin.getTextAnimationManager();
+        long animationTicks = textAnimationManager != null ? textAnimationManager.getClock() + animationPhase : 0;
+
+        StringBuilder builder = RENDER_BUFFER.get();
+        try {
+            if (state == null) {
+                builder.setLength(0);
+                List<TextTemplate.Line> lines = template.getLines();
+                for (int i = 0; i < lines.size(); i++) {
+                    if (i > 0) {
+                        builder.append(TextTemplate.LINE_SEPARATOR);
+                    }
+                    renderLine(lines.get(i), placeholderValues, animationTicks, builder);
+                }
+                return builder.toString();
+            }
+
+            synchronized (state) {
+                long frameKey = -1;
+                if (!template.hasPlaceholders()) {
+                    frameKey = frameKey(template, animationTicks);
+                    String cached = frameKey >= 0
+                        ? state.getCachedFrame(template, textAnimationManager.getGeneration(), frameKey)
+                        : null;
+                    if (cached != null) {
+                        return cached;
+                    }
+                }
+
+                String[] rendered = state.linesFor(template);
+                boolean changed = state.getRenderedText() == null;
+
+                List<TextTemplate.Line> lines = template.getLines();
+                for (int i = 0; i < lines.size(); i++) {
+                    TextTemplate.Line line = lines.get(i);
+                    if (!line.isDynamic()) {
+                        continue;
+                    }
+
+                    builder.setLength(0);
+                    renderLine(line, placeholderValues, animationTicks, builder);
+                    if (rendered[i] == null || !rendered[i].contentEquals(builder)) {
+                        rendered[i] = builder.toString();
+                        changed = true;
+                    }
+                }
+
+                String text = state.getRenderedText();
+                if (changed) {
+                    text = String.join(TextTemplate.LINE_SEPARATOR, rendered);
+                    state.setRenderedText(text);
+                }
+
+                if (frameKey >= 0) {
+                    state.cacheFrame(frameKey, text, MiniMessageUtil.parse(text));
+                }
+                return text;
             }
+        } finally {
+            if (builder.capacity() > MAX_RENDER_BUFFER) {
+                RENDER_BUFFER.remove(); // Don't keep a huge buffer around per thread
+            }
+        }
+    }
 
-            TextHologram textHologram = (TextHologram) hologramObj;
-            String text = def.getText();
+    /**
+     * Key of the combination of text animation frames a template shows at a clock tick
+     * Returns -1 if the template has more frame combinations than a render state caches
+     */
+    private long frameKey(TextTemplate template, long animationTicks) {
+        TextAnimationManager textAnimationManager = plugin.getTextAnimationManager();
+        if (textAnimationManager == null) {
+            return -1;
+        }
 
-            // If no text, remove the text hologram
-            if (text == null || text.isEmpty() || def.getLineCount() == 0) {
-                hologramManager.remove(textHologram);
-                activeHolograms.remove(id + "_text");
-                return;
+        long key = 0;
+        long combinations = 1;
+        for (String name : template.getAnimations()) {
+            TextAnimationManager.TextAnimation anim = textAnimationManager.getAnimation(name);
+            if (anim == null) {
+                continue; // Rendered as the raw placeholder, never changes
             }
 
-            // Process placeholders
-            if (PlaceholderService.isEnabled() && PlaceholderService.containsPlaceholders(text)) {
-                text = PlaceholderService.setPlaceholders(text);
+            int frames = anim.getFrameCount();
+            combinations *= frames;
+            if (combinations > HologramRenderState.MAX_CACHED_FRAMES) {
+                return -1;
             }
+            key = key * frames + anim.getFrameIndex(animationTicks);
+        }
+        return key;
+    }
 
-            // Process text animations
-            if (plugin.getTextAnimationManager() != null &&
-                plugin.getTextAnimationManager().containsAnimations(text)) {
-                text = plugin.getTextAnimationManager().processAnimations(text);
+    /**
+     * Append one rendered template line to the builder
+     */
+    private void renderLine(TextTemplate.Line line, Map<String, String> placeholderValues, long animationTicks,
+                            StringBuilder builder) {
+        TextAnimationManager textAnimationManager = plugin.getTextAnimationManager();
+        for (TextTemplate.Segment segment : line.getSegments()) {
+            switch (segment.getType()) {
+                case PLACEHOLDER:
+                    String value = placeholderValues != null ? placeholderValues.get(segment.getValue()) : null;
+                    if (value == null) {
+                        value = PlaceholderService.resolvePlaceholder(segment.getValue());
+                    }
+                    builder.append(value);
+                    break;
+                case ANIMATION:
+                    String frame = textAnimationManager != null ? textAnimationManager.getFrameAt(segment.getValue(), animationTicks) : null;
+                    builder.append(frame != null ? frame : segment.getRaw()); // Keep the placeholder if not found
+                    break;
+                default:
+                    builder.append(segment.getValue());
+                    break;
             }
+        }
+    }
 
+    /**
+     * Apply rendered text to a hologram (main thread)
+     * Results for holograms that were respawned or removed since the request was made are dropped
+     */
+    public void applyRendered(RenderRequest request, String text) {
+        if (renderStates.get(request.getKey()) != request.getState()) {
+            return;
+        }
+
+        Object hologramObj = activeHolograms.get(request.getKey());
+        if (hologramObj instanceof TextHologram) {
+            applyText(request.getState(), (TextHologram) hologramObj, text);
+        }
+    }
+
+    /**
+     * Send new text to a hologram, skipping the update packet if the text has not changed
+     */
+    private void applyText(HologramRenderState state, TextHologram textHologram, String text) {
+        if (!state.textChanged(text)) {
+            textUpdatesSkipped.incrementAndGet();
+            return;
+        }
+
+        // Animation frames come pre-parsed from the frame cache
+        Component component = state.getFrameComponent(text);
+        if (component != null) {
+            textHologram.setText(component).update();
+        } else {
             textHologram.setMiniMessageText(text).update();
         }
+        textUpdatesSent.incrementAndGet();
+    }
+
+    /**
+     * Get the number of text updates sent to viewers
+     */
+    public long getTextUpdatesSent() {
+        return textUpdatesSent.get();
+    }
+
+    /**
+     * Get the number of text updates skipped because the text was unchanged
+     */
+    public long getTextUpdatesSkipped() {
+        return textUpdatesSkipped.get();
+    }
+
+    /**
+     * Get the spatial index of hologram definitions
+     */
+    public SpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * Get the animation manager (null until init)
+     */
+    public AnimationManager getAnimationManager() {
+        return animationManager;
+    }
+
+    /**
+     * Get the viewer tracker
+     */
+    public ViewerTracker getViewerTracker() {
+        return viewerTracker;
+    }
+
+    /**
+     * Get the refresh scheduler
+     */
+    public RefreshScheduler getRefreshScheduler() {
+        return refreshScheduler;
+    }
+
+    /**
+     * Put a hologram on the refresh wheel if it has placeholders, or subscribe it to its text animations
+     * Holograms with only animations refresh when a frame they use advances, not on an interval
+     */
+    private void scheduleRefresh(HoloDefinition def) {
+        TextAnimationManager textAnimationManager = plugin.getTextAnimationManager();
+        TextTemplate template = hasRefreshableText(def) ? def.getTemplate() : TextTemplate.EMPTY;
+
+        if (def.isPlaceholdersEnabled() && template.hasPlaceholders()) {
+            refreshScheduler.schedule(def.getId(), def.getPlaceholderRefreshTicks());
+        } else if (template.hasAnimations() && textAnimationManager != null) {
+            refreshScheduler.scheduleOnDemand(def.getId());
+        } else {
+            refreshScheduler.unschedule(def.getId());
+        }
+
+        if (textAnimationManager != null) {
+            textAnimationManager.subscribe(def.getId(), template.getAnimations(), def.getAnimationPhase());
+        }
+    }
+
+    /**
+     * Check if a hologram has a text hologram that refreshes can update
+     */
+    private boolean hasRefreshableText(HoloDefinition def) {
+        return def.getType() == HoloType.TEXT
+            || ((def.getType() == HoloType.ITEM || def.getType() == HoloType.BLOCK) && def.getLineCount() > 0);
     }
 
     /**
@@ -311,20 +676,9 @@ public class HoloManager {
 
             switch (def.getType()) {
                 case TEXT:
-                    String text = def.getText();
-
-                    // Process placeholders
-                    if (PlaceholderService.isEnabled() && PlaceholderService.containsPlaceholders(text)) {
-                        text = PlaceholderService.setPlaceholders(text);
-                    }
-
-                    // Process text animations
-                    if (plugin.getTextAnimationManager() != null &&
-                        plugin.getTextAnimationManager().containsAnimations(text)) {
-                        text = plugin.getTextAnimationManager().processAnimations(text);
-                    }
+                    String text = renderText(def.getTemplate(), def.getAnimationPhase());
 
-                    TextHologram textHologram = new TextHologram(def.getId())
+                    TextHologram textHologram = new TextHologram(def.getId(), viewerTracker.getRenderMode())
                         .setMiniMessageText(text)
                         .setShadow(def.hasShadow())
                         .setAlignment(convertAlignment(def.getAlignment()))
@@ -349,12 +703,13 @@ public class HoloManager {
 
                     // Apply rotation if billboard is FIXED (NONE)
                     if (def.getBillboard() == HoloDefinition.BillboardMode.NONE) {
-                        float[] quat = yawPitchToQuaternion(loc.getYaw(), loc.getPitch());
+                        float[] quat = RotationUtil.yawPitchToQuaternion(loc.getYaw(), loc.getPitch());
                         textHologram.setLeftRotation(quat[0], quat[1], quat[2], quat[3]);
                         textHologram.update();
                     }
 
                     activeHolograms.put(def.getId(), textHologram);
+                    renderStates.computeIfAbsent(def.getId(), k -> new HologramRenderState()).markSent(text);
                     break;
 
                 case ITEM:
@@ -369,7 +724,7 @@ public class HoloManager {
 
                     ItemStack itemStack = ItemStack.builder().type(itemType).amount(1).build();
 
-                    ItemHologram itemHologram = new ItemHologram(def.getId())
+                    ItemHologram itemHologram = new ItemHologram(def.getId(), viewerTracker.getRenderMode())
                         .setItem(itemStack)
                         .setGlowing(def.isGlowing())
                         .setOnFire(def.isOnFire())
@@ -389,7 +744,7 @@ public class HoloManager {
 
                     // Apply rotation if billboard is FIXED (NONE)
                     if (def.getBillboard() == HoloDefinition.BillboardMode.NONE) {
-                        float[] quat = yawPitchToQuaternion(loc.getYaw(), loc.getPitch());
+                        float[] quat = RotationUtil.yawPitchToQuaternion(loc.getYaw(), loc.getPitch());
                         itemHologram.setLeftRotation(quat[0], quat[1], quat[2], quat[3]);
                         itemHologram.update();
                     }
@@ -398,7 +753,7 @@ public class HoloManager {
                     plugin.getLogger().info("ITEM hologram spawned successfully!");
 
                     // Spawn text hologram below if text lines exist
-                    spawnTextBelowHologram(def, loc);
+                    spawnTextBelowHologram(def, loc, itemHologram);
                     break;
 
                 case BLOCK:
@@ -423,7 +778,7 @@ public class HoloManager {
                     plugin.getLogger().info("Block state ID: " + blockStateId);
 
 
-                    BlockHologram blockHologram = new BlockHologram(def.getId())
+                    BlockHologram blockHologram = new BlockHologram(def.getId(), viewerTracker.getRenderMode())
                         .setBlock(blockStateId)
                         .setOnFire(def.isOnFire())
                         .setViewRange(def.getViewRange())
@@ -437,7 +792,7 @@ public class HoloManager {
 
                     // Apply rotation if billboard is FIXED (NONE)
                     if (def.getBillboard() == HoloDefinition.BillboardMode.NONE) {
-                        float[] quat = yawPitchToQuaternion(loc.getYaw(), loc.getPitch());
+                        float[] quat = RotationUtil.yawPitchToQuaternion(loc.getYaw(), loc.getPitch());
                         blockHologram.setLeftRotation(quat[0], quat[1], quat[2], quat[3]);
                         blockHologram.update();
                     }
@@ -446,7 +801,7 @@ public class HoloManager {
                     plugin.getLogger().info("BLOCK hologram spawned successfully!");
 
                     // Spawn text hologram below if text lines exist
-                    spawnTextBelowHologram(def, loc);
+                    spawnTextBelowHologram(def, loc, blockHologram);
                     break;
 
                 case LEADERBOARD:
@@ -544,7 +899,7 @@ public class HoloManager {
 
                     // Apply rotation if billboard is FIXED (NONE)
                     if (def.getBillboard() == HoloDefinition.BillboardMode.NONE) {
-                        float[] quat = yawPitchToQuaternion(loc.getYaw(), loc.getPitch());
+                        float[] quat = RotationUtil.yawPitchToQuaternion(loc.getYaw(), loc.getPitch());
                         leaderboard.setLeftRotation(quat[0], quat[1], quat[2], quat[3]);
                         leaderboard.update();
                     }
@@ -567,6 +922,10 @@ public class HoloManager {
                 }
             }
 
+            // Schedule placeholder/animation refreshes
+            scheduleRefresh(def);
+            viewerTracker.trackHologram(def);
+
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to spawn hologram " + def.getId(), e);
             plugin.getLogger().severe("Hologram type: " + def.getType());
@@ -580,67 +939,33 @@ public class HoloManager {
 
     /**
      * Spawn a text hologram below an item or block hologram
+     * Where the offset is purely vertical the text rides the item/block as a passenger, so moving the
+     * item/block moves both with a single packet. The offset is then applied as the text's translation.
      */
-    private void spawnTextBelowHologram(HoloDefinition def, Location loc) {
+    private void spawnTextBelowHologram(HoloDefinition def, Location loc, Hologram<?> parent) {
         // Only spawn if there are text lines
         if (def.getLineCount() == 0) {
             return;
         }
 
-        String text = def.getText();
-        if (text == null || text.isEmpty()) {
+        TextTemplate template = def.getTemplate();
+        if (template.getSource().isEmpty()) {
             return;
         }
 
         plugin.getLogger().info("Spawning text below " + def.getType() + " hologram");
 
-        // Process placeholders if enabled
-        if (PlaceholderService.isEnabled() && PlaceholderService.containsPlaceholders(text)) {
-            text = PlaceholderService.setPlaceholders(text);
-        }
-
-        // Process text animations
-        if (plugin.getTextAnimationManager() != null &&
-            plugin.getTextAnimationManager().containsAnimations(text)) {
-            text = plugin.getTextAnimationManager().processAnimations(text);
-        }
+        String text = renderText(template, def.getAnimationPhase());
+        boolean mounted = canMountText(def);
 
-        // Calculate position below the item/block
-        Location textLoc = loc.clone();
-
-        // Calculate offsets based on billboard mode
-        double xOffset = 0;
-        double yOffset = def.getTextOffset(); // Use custom text offset
-        double zOffset = 0;
-
-        switch (def.getBillboard()) {
-            case NONE: // FIXED billboard
-                if (def.getType() == HoloType.BLOCK) {
-                    // For FIXED billboard blocks, the visual center is offset
-                    xOffset = (0.5 * def.getScale().getX()) + def.getTranslation().getX();
-                    zOffset = (0.5 * def.getScale().getZ()) + def.getTranslation().getZ();
-                }
-                break;
-
-            case VERTICAL:
-            case HORIZONTAL:
-            case CENTER:
-            default:
-                // For other billboard modes, Y offset is enough
-                break;
-        }
-
-        textLoc.add(xOffset, yOffset, zOffset);
-
-        TextHologram textHologram = new TextHologram(def.getId() + "_text")
+        TextHologram textHologram = new TextHologram(def.getId() + "_text", viewerTracker.getRenderMode())
             .setMiniMessageText(text)
             .setShadow(def.hasShadow())
             .setAlignment(convertAlignment(def.getAlignment()))
             .setTextOpacity((byte) def.getOpacity())
             .setSeeThroughBlocks(def.isSeeThroughBlocks())
             .setViewRange(def.getViewRange())
-            .setScale((float) def.getScale().getX(), (float) def.getScale().getY(), (float) def.getScale().getZ())
-            .setBillboard(Display.Billboard.CENTER); // Always center for text below items/blocks
+            .setScale((float) def.getScale().getX(), (float) def.getScale().getY(), (float) def.getScale().getZ());
 
         if (def.isBackgroundEnabled()) {
             int[] bgColor = def.getBackgroundColor();
@@ -650,11 +975,45 @@ public class HoloManager {
             textHologram.setBackgroundColor(0);
         }
 
-        hologramManager.spawn(textHologram, textLoc);
+        if (mounted) {
+            // VERTICAL keeps the downward translation pointing down whatever the viewer's pitch
+            textHologram.setBillboard(Display.Billboard.VERTICAL)
+                .setTranslation(0, (float) def.getTextOffset(), 0); // Use custom text offset
+            hologramManager.spawn(textHologram, loc.clone());
+            hologramManager.attach(textHologram, parent.getEntityID()); // Viewers added later get the link from the ViewerTracker
+            mountedText.add(def.getId());
+        } else {
+            // For FIXED billboard blocks, the visual center is offset, so the text is placed separately
+            Location textLoc = loc.clone();
+            double xOffset = (0.5 * def.getScale().getX()) + def.getTranslation().getX();
+            double zOffset = (0.5 * def.getScale().getZ()) + def.getTranslation().getZ();
+            textLoc.add(xOffset, def.getTextOffset(), zOffset);
+
+            textHologram.setBillboard(Display.Billboard.CENTER); // Always center for text below items/blocks
+            hologramManager.spawn(textHologram, textLoc);
+            mountedText.remove(def.getId());
+        }
+
         activeHolograms.put(def.getId() + "_text", textHologram);
+        renderStates.computeIfAbsent(def.getId() + "_text", k -> new HologramRenderState()).markSent(text);
         plugin.getLogger().info("Text hologram spawned below " + def.getType());
     }
 
+    /**
+     * Check if the text below an item/block can ride it as a passenger
+     * FIXED billboard blocks need a horizontal offset to their visual center, which a passenger can't keep
+     */
+    private boolean canMountText(HoloDefinition def) {
+        return !(def.getBillboard() == HoloDefinition.BillboardMode.NONE && def.getType() == HoloType.BLOCK);
+    }
+
+    /**
+     * Check if the text below an item/block hologram is mounted on it and moves along automatically
+     */
+    public boolean isTextMounted(String id) {
+        return mountedText.contains(id);
+    }
+
     /**
      * Convert billboard mode to Display.Billboard
      */
@@ -679,27 +1038,27 @@ public class HoloManager {
     }
 
     /**
-     * Convert yaw and pitch to quaternion for left rotation
-     * Returns array: [x, y, z, w]
+     * Snapshot of a hologram's text taken on the main thread for rendering
      */
-    private float[] yawPitchToQuaternion(float yaw, float pitch) {
-        // Convert degrees to radians
-        double yawRad = Math.toRadians(yaw);
-        double pitchRad = Math.toRadians(pitch);
-
-        // Calculate quaternion components
-        // For Minecraft/Display entities, we use Y-axis for yaw and X-axis for pitch
-        double cy = Math.cos(yawRad * 0.5);
-        double sy = Math.sin(yawRad * 0.5);
-        double cp = Math.cos(pitchRad * 0.5);
-        double sp = Math.sin(pitchRad * 0.5);
-
-        float w = (float)(cy * cp);
-        float x = (float)(cy * sp);
-        float y = (float)(sy * cp);
-        float z = (float)(-sy * sp);
+    public static class RenderRequest {
+        private final String id;
+        private final String key;
+        private final TextTemplate template;
+        private final HologramRenderState state;
+        private final int animationPhase;
+
+        private RenderRequest(String id, String key, TextTemplate template, HologramRenderState state, int animationPhase) {
+            this.id = id;
+            this.key = key;
+            this.template = template;
+            this.state = state;
+            this.animationPhase = animationPhase;
+        }
 
-        return new float[]{x, y, z, w};
+        public String getId() { return id; }
+        public String getKey() { return key; }
+        public TextTemplate getTemplate() { return template; }
+        public HologramRenderState getState() { return state; }
+        public int getAnimationPhase() { return animationPhase; }
     }
 }
-
@@ -0,0 +1,140 @@
+package dev.gotcraft.gotCraftHolo.manager;
+
+import dev.gotcraft.gotCraftHolo.model.TextTemplate;
+import net.kyori.adventure.text.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Render state for an active text hologram
+ * Remembers what was last sent to viewers so unchanged text can be skipped,
+ * and the last rendered value of each line so unchanged lines don't rebuild the text.
+ * Text that only depends on text animations is cached per combination of animation frames.
+ */
+public class HologramRenderState {
+
+    static final int MAX_CACHED_FRAMES = 256; // Frame combinations cached per hologram
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long lastTextHash;
+    private String lastText; // Only used for a cheap identity check before hashing
+    private boolean sent;
+
+    // Line cache, guarded by this
+    private TextTemplate lineTemplate; // Template the cached lines were rendered from
+    private String[] renderedLines;
+    private String renderedText;
+
+    // Frame cache, guarded by this
+    private TextTemplate frameTemplate; // Template the cached frames were rendered from
+    private int frameGeneration; // Text animation generation the cached frames were rendered with
+    private Map<Long, String> frameTexts;
+    private Map<String, Component> frameComponents; // Parsed text of each cached frame
+
+    /**
+     * Check if text differs from what was last sent, and remember it if so
+     */
+    public boolean textChanged(String text) {
+        if (sent && text == lastText) {
+            return false; // Line cache returned the same text
+        }
+
+        long hash = hash(text);
+        lastText = text;
+        if (sent && hash == lastTextHash) {
+            return false;
+        }
+
+        lastTextHash = hash;
+        sent = true;
+        return true;
+    }
+
+    /**
+     * Record text that was sent outside the refresh path (e.g. on spawn)
+     */
+    public void markSent(String text) {
+        lastText = text;
+        lastTextHash = hash(text);
+        sent = true;
+    }
+
+    /**
+     * Get the cached rendered lines for a template, resetting the cache if the template changed
+     * Static lines are filled in up front, dynamic lines start out null
+     */
+    String[] linesFor(TextTemplate template) {
+        if (lineTemplate != template) {
+            lineTemplate = template;
+            renderedLines = new String[template.getLines().size()];
+            for (int i = 0; i < renderedLines.length; i++) {
+                renderedLines[i] = template.getLines().get(i).getLiteral();
+            }
+            renderedText = null;
+        }
+        return renderedLines;
+    }
+
+    /**
+     * Get the full text last built from the cached lines, or null if it must be rebuilt
+     */
+    String getRenderedText() {
+        return renderedText;
+    }
+
+    void setRenderedText(String renderedText) {
+        this.renderedText = renderedText;
+    }
+
+    /**
+     * Get the cached text for a combination of animation frames, or null if it must be rendered
+     * Resets the cache if the template or the loaded text animations changed
+     */
+    String getCachedFrame(TextTemplate template, int generation, long key) {
+        if (frameTemplate != template || frameGeneration != generation || frameTexts == null) {
+            frameTemplate = template;
+            frameGeneration = generation;
+            frameTexts = new HashMap<>();
+            frameComponents = new HashMap<>();
+            return null;
+        }
+        return frameTexts.get(key);
+    }
+
+    /**
+     * Cache the rendered text and parsed component of a combination of animation frames
+     */
+    void cacheFrame(long key, String text, Component component) {
+        if (frameTexts != null && frameTexts.size() < MAX_CACHED_FRAMES) {
+            frameTexts.put(key, text);
+            frameComponents.put(text, component);
+        }
+    }
+
+    /**
+     * Get the parsed component of cached frame text, or null if the text isn't a cached frame
+     */
+    synchronized Component getFrameComponent(String text) {
+        return frameComponents != null ? frameComponents.get(text) : null;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the text
+     * String.hashCode collides too easily for short placeholder output ("Aa" vs "BB")
+     */
+    static long hash(String text) {
+        if (text == null) {
+            return 0;
+        }
+
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,146 @@
+package dev.gotcraft.gotCraftHolo.manager;
+
+import dev.gotcraft.gotCraftHolo.model.HoloDefinition;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed offsets for one full cycle of a periodic animation path
+ * Tables are shared between all holograms with the same type, speed and radius.
+ * Entry i holds the offset from the base location after i animation ticks.
+ * Paths that cycle in only a few ticks are computed per tick instead, so fast animations keep their shape.
+ */
+public class MotionTable {
+
+    private static final int MAX_FRAMES = 1 << 14; // Caps memory for very slow animations
+    private static final int MIN_FRAMES = 16; // Shorter cycles are computed per tick, rounding would distort them
+    private static final Map<String, MotionTable> TABLES = new ConcurrentHashMap<>();
+
+    private final HoloDefinition.AnimationType type;
+    private final double step;
+    private final double radius;
+    private final double[] offsets; // Interleaved x, y, z per frame, null when computed per tick
+    private final int frames;
+
+    private MotionTable(HoloDefinition.AnimationType type, double step, double radius, double[] offsets, int frames) {
+        this.type = type;
+        this.step = step;
+        this.radius = radius;
+        this.offsets = offsets;
+        this.frames = frames;
+    }
+
+    /**
+     * Get the shared table for an animation path, computing it on first use
+     * Returns null for animation types that don't follow a periodic path
+     */
+    public static MotionTable get(HoloDefinition.AnimationType type, double speed, double radius) {
+        if (type != HoloDefinition.AnimationType.BOUNCE
+            && type != HoloDefinition.AnimationType.CIRCLE
+            && type != HoloDefinition.AnimationType.SPIRAL) {
+            return null;
+        }
+        return TABLES.computeIfAbsent(type + ":" + speed + ":" + radius, key -> compute(type, speed, radius));
+    }
+
+    /**
+     * Drop all shared tables
+     */
+    public static void clearCache() {
+        TABLES.clear();
+    }
+
+    private static MotionTable compute(HoloDefinition.AnimationType type, double speed, double radius) {
+        double step = speed * 0.1; // Same timer increment per tick as the animation ticker
+
+        // All paths repeat every 2*PI of timer
+        double period = step == 0 ? 1 : 2 * Math.PI / Math.abs(step);
+        if (period < MIN_FRAMES) {
+            // A few frames per cycle, rounding the period would change the path or freeze it at frame 0
+            return new MotionTable(type, step, radius, null, 1);
+        }
+
+        // Round the step so a whole number of ticks covers exactly 2*PI, the last frame then flows into the first
+        int frames = (int) Math.min(MAX_FRAMES, Math.round(period));
+        double tableStep = Math.copySign(2 * Math.PI / frames, step);
+        double[] offsets = new double[frames * 3];
+        for (int i = 0; i < frames; i++) {
+            double timer = i * tableStep;
+            offsets[i * 3] = offset(type, 0, timer, radius);
+            offsets[i * 3 + 1] = offset(type, 1, timer, radius);
+            offsets[i * 3 + 2] = offset(type, 2, timer, radius);
+        }
+
+        return new MotionTable(type, tableStep, radius, offsets, frames);
+    }
+
+    /**
+     * Offset along one axis (0 = x, 1 = y, 2 = z) after the timer has advanced this far
+     */
+    private static double offset(HoloDefinition.AnimationType type, int axis, double timer, double radius) {
+        switch (type) {
+            case BOUNCE:
+                // Move up and down
+                return axis == 1 ? Math.sin(timer) * radius : 0;
+
+            case CIRCLE:
+                // Move in a horizontal circle
+                if (axis == 1) {
+                    return 0;
+                }
+                return (axis == 0 ? Math.cos(timer) : Math.sin(timer)) * radius;
+
+            case SPIRAL:
+                // Move in a spiral (circle + vertical movement)
+                if (axis == 1) {
+                    double wrapped = timer % (2 * Math.PI);
+                    if (wrapped < 0) {
+                        wrapped += 2 * Math.PI;
+                    }
+                    return wrapped / (2 * Math.PI) * radius * 2 - radius;
+                }
+                return (axis == 0 ? Math.cos(timer) : Math.sin(timer)) * radius;
+
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Get the number of ticks in one cycle, 1 when offsets are computed per tick
+     */
+    public int getFrames() {
+        return frames;
+    }
+
+    /**
+     * Check if offsets come from the precomputed table, so equal frame indices mean equal offsets
+     */
+    public boolean isTabulated() {
+        return offsets != null;
+    }
+
+    /**
+     * Get the table frame shown after a number of ticks
+     */
+    public int frameAt(long tick) {
+        return frame(tick);
+    }
+
+    public double getX(long tick) {
+        return offsets != null ? offsets[frame(tick) * 3] : offset(type, 0, tick * step, radius);
+    }
+
+    public double getY(long tick) {
+        return offsets != null ? offsets[frame(tick) * 3 + 1] : offset(type, 1, tick * step, radius);
+    }
+
+    public double getZ(long tick) {
+        return offsets != null ? offsets[frame(tick) * 3 + 2] : offset(type, 2, tick * step, radius);
+    }
+
+    private int frame(long tick) {
+        return (int) Math.floorMod(tick, (long) frames); // Negative until a negative phase has played out
+    }
+}
@@ -0,0 +1,121 @@
+package dev.gotcraft.gotCraftHolo.manager;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.manager.player.PlayerManager;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerBundle;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects particle packets for a tick and sends them to each player in a single bundle
+ * The number of particle packets queued per tick is capped across all holograms (main thread only).
+ */
+public class ParticleEmitter {
+
+    private static final int MAX_BUNDLE_SIZE = 4096; // Client limit for packets in one bundle
+
+    private final int maxPerTick; // 0 = unlimited
+    private final Map<Player, List<PacketWrapper<?>>> pending;
+    private int queuedThisTick = 0;
+
+    // Reporting
+    private long packetsSent = 0;
+    private long effectsDeferred = 0;
+
+    public ParticleEmitter(int maxPerTick) {
+        this.maxPerTick = Math.max(0, maxPerTick);
+        this.pending = new HashMap<>();
+    }
+
+    /**
+     * Check if the cap leaves room for this many more particle packets this tick
+     * The first effect of a tick always fits, so an effect larger than the cap still gets sent.
+     * Returns false (and counts a deferred effect) if it doesn't
+     */
+    public boolean reserve(int packets) {
+        if (maxPerTick > 0 && queuedThisTick > 0 && queuedThisTick + packets > maxPerTick) {
+            effectsDeferred++;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Queue a particle packet for each of the viewers
+     */
+    public void emit(Collection<Player> viewers, PacketWrapper<?> packet) {
+        for (Player viewer : viewers) {
+            pending.computeIfAbsent(viewer, k -> new ArrayList<>()).add(packet);
+        }
+        queuedThisTick += viewers.size();
+    }
+
+    /**
+     * Send everything queued this tick, one bundle per player
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            queuedThisTick = 0;
+            return;
+        }
+
+        PlayerManager playerManager = PacketEvents.getAPI().getPlayerManager();
+        for (Map.Entry<Player, List<PacketWrapper<?>>> entry : pending.entrySet()) {
+            Player player = entry.getKey();
+            List<PacketWrapper<?>> packets = entry.getValue();
+            User user = player.isOnline() ? playerManager.getUser(player) : null;
+            if (user == null) {
+                continue;
+            }
+
+            if (packets.size() == 1) {
+                user.sendPacket(packets.get(0));
+            } else {
+                // Bundle delimiters make the client handle all particles of this tick together.
+                // Packets are only written, so the whole tick goes out in one flush.
+                for (int start = 0; start < packets.size(); start += MAX_BUNDLE_SIZE) {
+                    int end = Math.min(packets.size(), start + MAX_BUNDLE_SIZE);
+                    user.writePacket(new WrapperPlayServerBundle());
+                    for (int i = start; i < end; i++) {
+                        user.writePacket(packets.get(i));
+                    }
+                    user.writePacket(new WrapperPlayServerBundle());
+                }
+                user.flushPackets();
+            }
+            packetsSent += packets.size();
+        }
+
+        pending.clear();
+        queuedThisTick = 0;
+    }
+
+    /**
+     * Drop everything queued this tick
+     */
+    public void clear() {
+        pending.clear();
+        queuedThisTick = 0;
+    }
+
+    /**
+     * Get the number of particle packets sent
+     */
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    /**
+     * Get the number of particle effect frames deferred to a later tick by the per-tick cap
+     */
+    public long getEffectsDeferred() {
+        return effectsDeferred;
+    }
+}
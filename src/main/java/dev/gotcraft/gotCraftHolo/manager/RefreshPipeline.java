@@ -0,0 +1,263 @@
+package dev.gotcraft.gotCraftHolo.manager;
+
+import dev.gotcraft.gotCraftHolo.GotCraftHolo;
+import dev.gotcraft.gotCraftHolo.service.PlaceholderService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Two-stage hologram refresh pipeline
+ * Stage one renders text (placeholders + animations) on a worker pool, stage two applies
+ * the rendered results to holograms in one batch on the main thread.
+ * Holograms submitted in the same tick form a batch in which each distinct placeholder is resolved only once.
+ */
+public class RefreshPipeline {
+
+    private final GotCraftHolo plugin;
+    private final HoloManager holoManager;
+    private final ExecutorService workers; // Null when async updates are disabled
+    private final Queue<RenderResult> rendered;
+    private final Set<String> inFlight;
+    private final Set<String> rerun; // In-flight holograms requested again, resubmitted once their result is applied
+    private Batch batch; // Batch being collected this tick (main thread only)
+
+    // Dedup reporting
+    private volatile int lastBatchOccurrences = 0;
+    private volatile int lastBatchResolutions = 0;
+    private long totalOccurrences = 0;
+    private long totalResolutions = 0;
+
+    public RefreshPipeline(GotCraftHolo plugin, HoloManager holoManager, int threads) {
+        this.plugin = plugin;
+        this.holoManager = holoManager;
+        this.rendered = new ConcurrentLinkedQueue<>();
+        this.inFlight = ConcurrentHashMap.newKeySet();
+        this.rerun = ConcurrentHashMap.newKeySet();
+
+        if (threads > 0) {
+            AtomicInteger counter = new AtomicInteger();
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "GotCraftHolo-Refresh-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            this.workers = Executors.newFixedThreadPool(threads, factory);
+        } else {
+            this.workers = null;
+        }
+    }
+
+    /**
+     * Stage one: add a hologram to this tick's render batch (main thread)
+     * Holograms whose previous render is still in flight are rendered again once it has been applied,
+     * at most once, so a slow expansion can't pile up work but a newer frame isn't lost
+     */
+    public void submit(String id) {
+        if (inFlight.contains(id)) {
+            rerun.add(id);
+            return;
+        }
+
+        HoloManager.RenderRequest request = holoManager.prepareRefresh(id);
+        if (request == null) {
+            return;
+        }
+
+        if (batch == null) {
+            batch = new Batch();
+        }
+
+        batch.occurrences += request.getTemplate().getPlaceholderOccurrences();
+        for (String token : request.getTemplate().getPlaceholders()) {
+            if (batch.values.containsKey(token) || batch.asyncTokens.contains(token)) {
+                continue; // Already resolved (or queued) for another hologram in this batch
+            }
+
+            // Expansions that are not thread-safe resolve right here on the main thread
+            if (workers == null || PlaceholderService.requiresMainThread(token)) {
+                batch.values.put(token, resolve(token));
+            } else {
+                batch.asyncTokens.add(token);
+            }
+        }
+
+        batch.requests.add(request);
+        inFlight.add(id);
+    }
+
+    /**
+     * Stage one: hand this tick's batch off for rendering (main thread)
+     */
+    public void flush() {
+        if (batch == null) {
+            return;
+        }
+
+        Batch current = batch;
+        batch = null;
+
+        lastBatchOccurrences = current.occurrences;
+        lastBatchResolutions = current.values.size() + current.asyncTokens.size();
+        totalOccurrences += lastBatchOccurrences;
+        totalResolutions += lastBatchResolutions;
+
+        if (workers == null) {
+            render(current);
+            return;
+        }
+
+        try {
+            workers.execute(() -> render(current));
+        } catch (RejectedExecutionException e) {
+            // Pool is shutting down
+            for (HoloManager.RenderRequest request : current.requests) {
+                inFlight.remove(request.getId());
+                rerun.remove(request.getId());
+            }
+        }
+    }
+
+    /**
+     * Stage two: apply rendered results to their holograms until the deadline (main thread)
+     * Results left over stay queued for the next tick. Holograms requested again while rendering join this tick's batch
+     */
+    public void applyPending(long deadlineNanos) {
+        RenderResult result;
+        while (System.nanoTime() < deadlineNanos && (result = rendered.poll()) != null) {
+            holoManager.applyRendered(result.request, result.text);
+            if (rerun.remove(result.request.getId())) {
+                submit(result.request.getId());
+            }
+        }
+    }
+
+    /**
+     * Check if rendered results are waiting to be applied
+     */
+    public boolean hasPending() {
+        return !rendered.isEmpty();
+    }
+
+    /**
+     * Get the number of rendered results waiting to be applied
+     */
+    public int getPendingCount() {
+        return rendered.size();
+    }
+
+    /**
+     * Get the number of holograms currently being rendered off-thread
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Get the number of placeholder occurrences in the last batch
+     */
+    public int getLastBatchOccurrences() {
+        return lastBatchOccurrences;
+    }
+
+    /**
+     * Get the number of placeholders actually resolved for the last batch
+     */
+    public int getLastBatchResolutions() {
+        return lastBatchResolutions;
+    }
+
+    /**
+     * Get the overall ratio of placeholder occurrences to resolutions (higher = more saved)
+     */
+    public double getDedupRatio() {
+        return totalResolutions == 0 ? 1.0 : (double) totalOccurrences / totalResolutions;
+    }
+
+    /**
+     * Stop the worker pool and drop any queued results
+     */
+    public void shutdown() {
+        if (workers != null) {
+            workers.shutdownNow();
+            try {
+                workers.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        batch = null;
+        rendered.clear();
+        inFlight.clear();
+        rerun.clear();
+    }
+
+    private void render(Batch current) {
+        try {
+            for (String token : current.asyncTokens) {
+                current.values.put(token, resolve(token));
+            }
+
+            for (HoloManager.RenderRequest request : current.requests) {
+                try {
+                    String text = holoManager.renderText(request.getTemplate(), current.values, request.getState(),
+                        request.getAnimationPhase());
+                    rendered.add(new RenderResult(request, text));
+                } catch (Exception e) {
+                    rerun.remove(request.getId()); // No result to follow up on
+                    plugin.getLogger().log(Level.WARNING, "Failed to render hologram " + request.getId(), e);
+                }
+            }
+        } finally {
+            for (HoloManager.RenderRequest request : current.requests) {
+                inFlight.remove(request.getId());
+            }
+        }
+    }
+
+    private String resolve(String token) {
+        try {
+            return PlaceholderService.resolvePlaceholder(token);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to resolve placeholder " + token, e);
+            return token;
+        }
+    }
+
+    /**
+     * Holograms submitted in one tick and the placeholder values they share
+     */
+    private static class Batch {
+        private final List<HoloManager.RenderRequest> requests = new ArrayList<>();
+        private final Map<String, String> values = new HashMap<>();
+        private final Set<String> asyncTokens = new HashSet<>();
+        private int occurrences;
+    }
+
+    /**
+     * Rendered text waiting for the main thread
+     */
+    private static class RenderResult {
+        private final HoloManager.RenderRequest request;
+        private final String text;
+
+        private RenderResult(HoloManager.RenderRequest request, String text) {
+            this.request = request;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package dev.gotcraft.gotCraftHolo.manager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Timing wheel for hologram refreshes
+ * Holograms are bucketed by the tick they are next due, so a tick only touches the holograms that are due.
+ * On-demand holograms are never due on their own and only refresh when requested (e.g. on an animation frame).
+ */
+public class RefreshScheduler {
+
+    private static final int WHEEL_SIZE = 512; // Must be a power of two
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final List<Set<Entry>> wheel;
+    private final Map<String, Entry> entries;
+    private final Set<String> onDemand;
+    private final Set<String> immediate; // Scheduled holograms to refresh on the next tick regardless of interval
+    private long currentTick;
+
+    public RefreshScheduler() {
+        this.wheel = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new HashSet<>());
+        }
+        this.entries = new HashMap<>();
+        this.onDemand = new HashSet<>();
+        this.immediate = new LinkedHashSet<>();
+        this.currentTick = 0;
+    }
+
+    /**
+     * Schedule a hologram to refresh every intervalTicks, replacing any existing schedule
+     */
+    public synchronized void schedule(String id, int intervalTicks) {
+        unschedule(id);
+
+        int interval = Math.max(1, intervalTicks);
+        Entry entry = new Entry(id, interval, currentTick + interval);
+        entries.put(id, entry);
+        slotFor(entry.dueTick).add(entry);
+    }
+
+    /**
+     * Schedule a hologram to refresh only when requested, replacing any existing schedule
+     */
+    public synchronized void scheduleOnDemand(String id) {
+        unschedule(id);
+        onDemand.add(id);
+    }
+
+    /**
+     * Remove a hologram from the wheel
+     */
+    public synchronized void unschedule(String id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            slotFor(entry.dueTick).remove(entry);
+        }
+        onDemand.remove(id);
+        immediate.remove(id);
+    }
+
+    /**
+     * Make a scheduled hologram due on the next tick, without changing its interval
+     */
+    public synchronized void requestImmediate(String id) {
+        if (entries.containsKey(id) || onDemand.contains(id)) {
+            immediate.add(id);
+        }
+    }
+
+    /**
+     * Advance the wheel to the given tick and return the IDs of all holograms due on it
+     * Due holograms are automatically rescheduled for their next interval
+     */
+    public synchronized List<String> advance(long tick) {
+        currentTick = tick;
+
+        Set<Entry> slot = slotFor(tick);
+        if (slot.isEmpty() && immediate.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> due = new ArrayList<>(immediate);
+        List<Entry> rescheduled = new ArrayList<>();
+
+        Iterator<Entry> iterator = slot.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.dueTick > tick) {
+                continue; // Due on a later lap of the wheel
+            }
+
+            iterator.remove();
+            if (!immediate.contains(entry.id)) {
+                due.add(entry.id); // Requested ones are already due, the set keeps this check O(1)
+            }
+            entry.dueTick = tick + entry.interval;
+            rescheduled.add(entry);
+        }
+
+        immediate.clear();
+
+        // Re-insert after iterating, an interval that is a multiple of the wheel size lands in the same slot
+        for (Entry entry : rescheduled) {
+            slotFor(entry.dueTick).add(entry);
+        }
+
+        return due;
+    }
+
+    /**
+     * Remove all scheduled holograms
+     */
+    public synchronized void clear() {
+        for (Set<Entry> slot : wheel) {
+            slot.clear();
+        }
+        entries.clear();
+        onDemand.clear();
+        immediate.clear();
+    }
+
+    /**
+     * Get the number of scheduled holograms, including on-demand ones
+     */
+    public synchronized int size() {
+        return entries.size() + onDemand.size();
+    }
+
+    private Set<Entry> slotFor(long tick) {
+        return wheel.get((int) (tick & WHEEL_MASK));
+    }
+
+    /**
+     * A scheduled hologram and the tick it is next due
+     */
+    private static class Entry {
+        private final String id;
+        private final int interval;
+        private long dueTick;
+
+        private Entry(String id, int interval, long dueTick) {
+            this.id = id;
+            this.interval = interval;
+            this.dueTick = dueTick;
+        }
+    }
+}
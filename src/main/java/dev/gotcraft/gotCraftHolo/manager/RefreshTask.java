@@ -1,63 +1,146 @@
 package dev.gotcraft.gotCraftHolo.manager;
 
 import dev.gotcraft.gotCraftHolo.GotCraftHolo;
-import dev.gotcraft.gotCraftHolo.model.HoloDefinition;
-import dev.gotcraft.gotCraftHolo.model.HoloType;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+
 /**
  * Task for refreshing holograms with placeholders
+ * Runs on the main thread every tick: applies the results rendered since the last tick,
+ * then hands holograms due on this tick to the {@link RefreshPipeline} for rendering.
+ * Work that doesn't fit in the per-tick time budget is carried over, most overdue first.
  */
 public class RefreshTask extends BukkitRunnable {
 
     private final GotCraftHolo plugin;
     private final HoloManager holoManager;
-    private int tickCounter = 0;
+    private final RefreshPipeline pipeline;
+    private final long budgetNanos; // 0 = unlimited
+    private final PriorityQueue<PendingRefresh> backlog;
+    private final Set<String> backlogIds;
+    private long tickCounter = 0;
+    private long sequence = 0;
+
+    // Lag reporting
+    private long currentLagTicks = 0;
+    private long maxLagTicks = 0;
+    private long budgetExceededTicks = 0;
+    private long suspendedRefreshes = 0;
 
-    public RefreshTask(GotCraftHolo plugin, HoloManager holoManager) {
+    public RefreshTask(GotCraftHolo plugin, HoloManager holoManager, RefreshPipeline pipeline, long budgetNanos) {
         this.plugin = plugin;
         this.holoManager = holoManager;
+        this.pipeline = pipeline;
+        this.budgetNanos = Math.max(0, budgetNanos);
+        this.backlog = new PriorityQueue<>(Comparator
+            .comparingLong((PendingRefresh pending) -> pending.dueTick)
+            .thenComparingLong(pending -> pending.sequence));
+        this.backlogIds = new HashSet<>();
     }
 
     @Override
     public void run() {
         tickCounter++;
+        long deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
 
-        // Tick text animations
+        // Tick text animations, queueing the holograms whose frames advanced
         if (plugin.getTextAnimationManager() != null) {
-            plugin.getTextAnimationManager().tick();
+            plugin.getTextAnimationManager().tick(holoManager.getRefreshScheduler());
         }
 
-        for (HoloDefinition def : holoManager.getAllDefinitions()) {
-            // Refresh TEXT holograms with placeholders or animations enabled
-            if (def.getType() == HoloType.TEXT && (def.isPlaceholdersEnabled() || hasTextAnimations(def))) {
-                // Check if it's time to refresh this hologram
-                if (tickCounter % def.getPlaceholderRefreshTicks() == 0) {
-                    holoManager.refreshHologram(def.getId());
-                }
+        // Stage two: apply everything rendered since the last tick, within budget
+        pipeline.applyPending(deadline);
+        boolean applyCarriedOver = pipeline.hasPending();
+
+        // Queue holograms due on this tick behind anything already carried over
+        // Holograms nobody can see are skipped, the first viewer to arrive triggers a catch-up render
+        ViewerTracker viewerTracker = holoManager.getViewerTracker();
+        for (String id : holoManager.getRefreshScheduler().advance(tickCounter)) {
+            if (!viewerTracker.hasViewers(id)) {
+                suspendedRefreshes++;
+                continue;
             }
-            // Also refresh ITEM/BLOCK holograms that have text below them with placeholders or animations enabled
-            else if ((def.getType() == HoloType.ITEM || def.getType() == HoloType.BLOCK)
-                     && (def.isPlaceholdersEnabled() || hasTextAnimations(def))
-                     && def.getLineCount() > 0) {
-                // Check if it's time to refresh this hologram
-                if (tickCounter % def.getPlaceholderRefreshTicks() == 0) {
-                    holoManager.refreshHologram(def.getId());
-                }
+            if (backlogIds.add(id)) {
+                backlog.add(new PendingRefresh(id, tickCounter, sequence++));
             }
         }
+
+        // Stage one: batch the most overdue holograms first, always making some progress
+        boolean first = true;
+        while (!backlog.isEmpty() && (first || System.nanoTime() < deadline)) {
+            PendingRefresh pending = backlog.poll();
+            backlogIds.remove(pending.id);
+            pipeline.submit(pending.id);
+            first = false;
+        }
+        pipeline.flush();
+
+        if (!backlog.isEmpty() || applyCarriedOver) {
+            budgetExceededTicks++;
+        }
+
+        currentLagTicks = backlog.isEmpty() ? 0 : tickCounter - backlog.peek().dueTick;
+        maxLagTicks = Math.max(maxLagTicks, currentLagTicks);
     }
 
     /**
-     * Check if hologram text contains animation placeholders
+     * Get the number of refreshes carried over to later ticks
      */
-    private boolean hasTextAnimations(HoloDefinition def) {
-        if (plugin.getTextAnimationManager() == null) {
-            return false;
-        }
+    public int getCarryOverDepth() {
+        return backlog.size();
+    }
 
-        String text = def.getText();
-        return text != null && plugin.getTextAnimationManager().containsAnimations(text);
+    /**
+     * Get how many ticks the most overdue carried-over refresh is late
+     */
+    public long getCurrentLagTicks() {
+        return currentLagTicks;
     }
-}
 
+    /**
+     * Get the highest lag seen since the task started
+     */
+    public long getMaxLagTicks() {
+        return maxLagTicks;
+    }
+
+    /**
+     * Get the number of ticks where work had to be carried over
+     */
+    public long getBudgetExceededTicks() {
+        return budgetExceededTicks;
+    }
+
+    /**
+     * Get the number of refreshes skipped because no player was in view range
+     */
+    public long getSuspendedRefreshes() {
+        return suspendedRefreshes;
+    }
+
+    /**
+     * Get the per-tick time budget in nanoseconds (0 = unlimited)
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * A refresh waiting for budget, ordered by the tick it was due
+     */
+    private static class PendingRefresh {
+        private final String id;
+        private final long dueTick;
+        private final long sequence;
+
+        private PendingRefresh(String id, long dueTick, long sequence) {
+            this.id = id;
+            this.dueTick = dueTick;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package dev.gotcraft.gotCraftHolo.manager;
+
+import dev.gotcraft.gotCraftHolo.model.HoloDefinition;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Grid of hologram definitions per world, one cell per chunk
+ * Radius queries only visit the cells the radius overlaps, so their cost depends on nearby holograms only.
+ * Kept current by create, update and remove in {@link HoloManager} (main thread only).
+ */
+public class SpatialIndex {
+
+    private static final int CELL_SHIFT = 4; // 16 blocks per cell, cell coordinates are chunk coordinates
+
+    private final Map<String, Map<Long, List<HoloDefinition>>> worlds; // World name -> cell key -> holograms
+    private final Map<String, Entry> entries; // Hologram ID -> where it is indexed
+    private double maxViewRange = 0;
+
+    public SpatialIndex() {
+        this.worlds = new HashMap<>();
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Index a hologram at its current location, replacing any previous entry
+     * Holograms are indexed by world name, so holograms in worlds that aren't loaded can be found once they are
+     */
+    public void add(HoloDefinition def) {
+        remove(def.getId());
+
+        Location location = def.getLocation();
+        String worldName = def.getWorldName();
+        if (location == null || worldName == null) {
+            return;
+        }
+
+        long cell = cellKey(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT);
+        worlds.computeIfAbsent(worldName, k -> new HashMap<>())
+            .computeIfAbsent(cell, k -> new ArrayList<>(2))
+            .add(def);
+        double viewRange = def.getViewRange();
+        entries.put(def.getId(), new Entry(def, worldName, cell, viewRange));
+        maxViewRange = Math.max(maxViewRange, viewRange);
+    }
+
+    /**
+     * Remove a hologram from the index
+     */
+    public void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+
+        Map<Long, List<HoloDefinition>> cells = worlds.get(entry.worldName);
+        if (cells != null) {
+            List<HoloDefinition> holograms = cells.get(entry.cell);
+            if (holograms != null) {
+                holograms.remove(entry.def);
+                if (holograms.isEmpty()) {
+                    cells.remove(entry.cell);
+                    if (cells.isEmpty()) {
+                        worlds.remove(entry.worldName);
+                    }
+                }
+            }
+        }
+
+        if (entry.viewRange >= maxViewRange) {
+            recomputeMaxViewRange();
+        }
+    }
+
+    /**
+     * Remove all holograms from the index
+     */
+    public void clear() {
+        worlds.clear();
+        entries.clear();
+        maxViewRange = 0;
+    }
+
+    /**
+     * Get the holograms within a radius of a location, in no particular order
+     */
+    public List<HoloDefinition> getNearby(Location center, double radius) {
+        List<HoloDefinition> nearby = new ArrayList<>();
+        double radiusSquared = radius * radius;
+        forEachCandidate(center, radius, def -> {
+            if (def.getLocation().distanceSquared(center) <= radiusSquared) {
+                nearby.add(def);
+            }
+        });
+        return nearby;
+    }
+
+    /**
+     * Visit every hologram in the cells a radius around a location overlaps
+     * Candidates can be up to a cell further away than the radius, callers check the exact distance.
+     */
+    public void forEachCandidate(Location center, double radius, Consumer<HoloDefinition> consumer) {
+        World world = center != null ? center.getWorld() : null;
+        if (world == null) {
+            return;
+        }
+
+        Map<Long, List<HoloDefinition>> cells = worlds.get(world.getName());
+        if (cells == null) {
+            return;
+        }
+
+        int minX = (int) Math.floor(center.getX() - radius) >> CELL_SHIFT;
+        int maxX = (int) Math.floor(center.getX() + radius) >> CELL_SHIFT;
+        int minZ = (int) Math.floor(center.getZ() - radius) >> CELL_SHIFT;
+        int maxZ = (int) Math.floor(center.getZ() + radius) >> CELL_SHIFT;
+
+        // For huge radii walking the occupied cells is cheaper than probing every cell in range
+        long area = (long) (maxX - minX + 1) * (maxZ - minZ + 1);
+        if (area > cells.size()) {
+            for (Map.Entry<Long, List<HoloDefinition>> entry : cells.entrySet()) {
+                int cellX = (int) (entry.getKey() >> 32);
+                int cellZ = (int) (long) entry.getKey();
+                if (cellX >= minX && cellX <= maxX && cellZ >= minZ && cellZ <= maxZ) {
+                    entry.getValue().forEach(consumer);
+                }
+            }
+            return;
+        }
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                List<HoloDefinition> holograms = cells.get(cellKey(x, z));
+                if (holograms != null) {
+                    holograms.forEach(consumer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the holograms in a chunk
+     * Returns a copy, so callers can add or remove holograms while iterating
+     */
+    public List<HoloDefinition> getInChunk(String worldName, int chunkX, int chunkZ) {
+        Map<Long, List<HoloDefinition>> cells = worlds.get(worldName);
+        List<HoloDefinition> holograms = cells != null ? cells.get(cellKey(chunkX, chunkZ)) : null;
+        return holograms != null ? new ArrayList<>(holograms) : new ArrayList<>();
+    }
+
+    /**
+     * Get the holograms in a world, loaded or not
+     */
+    public List<HoloDefinition> getInWorld(String worldName) {
+        List<HoloDefinition> holograms = new ArrayList<>();
+        Map<Long, List<HoloDefinition>> cells = worlds.get(worldName);
+        if (cells != null) {
+            for (List<HoloDefinition> cell : cells.values()) {
+                holograms.addAll(cell);
+            }
+        }
+        return holograms;
+    }
+
+    /**
+     * Get the largest view range of any indexed hologram
+     */
+    public double getMaxViewRange() {
+        return maxViewRange;
+    }
+
+    /**
+     * Get the number of indexed holograms
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void recomputeMaxViewRange() {
+        maxViewRange = 0;
+        for (Entry entry : entries.values()) {
+            maxViewRange = Math.max(maxViewRange, entry.viewRange);
+        }
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Where a hologram was indexed, so it can be found again after its definition moved
+     * The view range is kept as indexed too, the definition's may already have changed when it is removed
+     */
+    private static class Entry {
+        private final HoloDefinition def;
+        private final String worldName;
+        private final long cell;
+        private final double viewRange;
+
+        private Entry(HoloDefinition def, String worldName, long cell, double viewRange) {
+            this.def = def;
+            this.worldName = worldName;
+            this.cell = cell;
+            this.viewRange = viewRange;
+        }
+    }
+}
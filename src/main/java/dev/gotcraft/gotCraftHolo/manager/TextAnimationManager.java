@@ -6,28 +6,29 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import java.io.File;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Manager for text animations
- * Handles loading animation definitions and processing animation placeholders
+ * Handles loading animation definitions, {anim:name} placeholders are resolved through compiled text templates.
+ * All animations run off one global tick clock, the current frame is derived from it
+ * (plus a per-hologram phase) instead of being tracked per animation.
  */
 public class TextAnimationManager {
 
     private final GotCraftHolo plugin;
     private final File animationsFolder;
     private final Map<String, TextAnimation> animations;
-    private final Map<String, Integer> animationFrames; // Track current frame for each animation
-    private final Map<String, Integer> tickCounters; // Track ticks for each animation
-    private final Pattern animationPattern = Pattern.compile("\\{anim:([^}]+)}");
+    private final Map<String, Map<String, Subscriber>> subscribers; // Animation name -> hologram ID -> subscriber
+    private final Map<String, Set<String>> subscriptions; // Hologram ID -> animation names it uses
+    private volatile long clock = 0; // Ticks since the plugin started, only written by the main thread
+    private volatile int generation = 0; // Bumped on every load so frames cached by holograms are dropped
 
     public TextAnimationManager(GotCraftHolo plugin) {
         this.plugin = plugin;
         this.animationsFolder = new File(plugin.getDataFolder(), "text-animations");
         this.animations = new ConcurrentHashMap<>();
-        this.animationFrames = new ConcurrentHashMap<>();
-        this.tickCounters = new ConcurrentHashMap<>();
+        this.subscribers = new HashMap<>();
+        this.subscriptions = new HashMap<>();
 
         // Create text-animations folder if it doesn't exist
         if (!animationsFolder.exists()) {
@@ -95,7 +96,7 @@ public class TextAnimationManager {
      */
     public void loadAllAnimations() {
         animations.clear();
-        animationFrames.clear();
+        generation++;
 
         File[] files = animationsFolder.listFiles((dir, name) -> name.endsWith(".yml"));
         if (files == null || files.length == 0) {
@@ -118,8 +119,6 @@ public class TextAnimationManager {
 
                 TextAnimation anim = new TextAnimation(name, frames, speed);
                 animations.put(name.toLowerCase(), anim);
-                animationFrames.put(name.toLowerCase(), 0);
-                tickCounters.put(name.toLowerCase(), 0);
                 loaded++;
             } catch (Exception e) {
                 plugin.getLogger().warning("Failed to load animation from " + file.getName() + ": " + e.getMessage());
@@ -130,65 +129,95 @@ public class TextAnimationManager {
     }
 
     /**
-     * Process animation placeholders in text
-     * Format: {anim:animation_name}
+     * Get the frame of an animation at a clock tick, or null if it doesn't exist
      */
-    public String processAnimations(String text) {
-        if (text == null || text.isEmpty()) {
-            return text;
+    public String getFrameAt(String name, long ticks) {
+        TextAnimation anim = animations.get(name);
+        if (anim == null) {
+            return null;
         }
+        return anim.getFrameAt(ticks);
+    }
 
-        Matcher matcher = animationPattern.matcher(text);
-        StringBuffer result = new StringBuffer();
+    /**
+     * Subscribe a hologram to the animations its text uses, running them the given number of ticks ahead (main thread)
+     */
+    public void subscribe(String holoId, Set<String> animationNames, int phase) {
+        unsubscribe(holoId);
+        if (animationNames.isEmpty()) {
+            return;
+        }
 
-        while (matcher.find()) {
-            String animName = matcher.group(1).toLowerCase();
-            TextAnimation anim = animations.get(animName);
+        Subscriber subscriber = new Subscriber(holoId, phase);
+        subscriptions.put(holoId, new HashSet<>(animationNames));
+        for (String name : animationNames) {
+            subscribers.computeIfAbsent(name, k -> new HashMap<>()).put(holoId, subscriber);
+        }
+    }
 
-            if (anim != null) {
-                int currentFrame = animationFrames.getOrDefault(animName, 0);
-                String replacement = anim.getFrame(currentFrame);
-                matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
-            } else {
-                // If animation not found, keep the placeholder
-                matcher.appendReplacement(result, Matcher.quoteReplacement(matcher.group(0)));
+    /**
+     * Remove a hologram from all animation subscriptions (main thread)
+     */
+    public void unsubscribe(String holoId) {
+        Set<String> names = subscriptions.remove(holoId);
+        if (names == null) {
+            return;
+        }
+
+        for (String name : names) {
+            Map<String, Subscriber> ids = subscribers.get(name);
+            if (ids != null) {
+                ids.remove(holoId);
+                if (ids.isEmpty()) {
+                    subscribers.remove(name);
+                }
             }
         }
+    }
 
-        matcher.appendTail(result);
-        return result.toString();
+    /**
+     * Remove all animation subscriptions (main thread)
+     */
+    public void clearSubscriptions() {
+        subscribers.clear();
+        subscriptions.clear();
     }
 
     /**
-     * Advance animation frames (called every tick)
+     * Advance the animation clock (called every tick)
+     * Holograms subscribed to an animation whose frame advanced for them are queued for refresh on the scheduler
      */
-    public void tick() {
-        for (Map.Entry<String, TextAnimation> entry : animations.entrySet()) {
-            String name = entry.getKey();
-            TextAnimation anim = entry.getValue();
-
-            // Increment tick counter
-            int ticks = tickCounters.getOrDefault(name, 0) + 1;
-            tickCounters.put(name, ticks);
-
-            // Only advance frame if we've reached the speed threshold
-            if (ticks >= anim.getSpeed()) {
-                // Reset tick counter
-                tickCounters.put(name, 0);
-
-                // Advance to next frame sequentially
-                int currentFrame = animationFrames.getOrDefault(name, 0);
-                int nextFrame = (currentFrame + 1) % anim.getFrameCount();
-                animationFrames.put(name, nextFrame);
+    public void tick(RefreshScheduler scheduler) {
+        long now = ++clock;
+
+        // Only animations somebody uses need checking, frames of the rest are derived on demand
+        for (Map.Entry<String, Map<String, Subscriber>> entry : subscribers.entrySet()) {
+            TextAnimation anim = animations.get(entry.getKey());
+            if (anim == null || anim.getFrameCount() < 2) {
+                continue;
+            }
+
+            int speed = anim.getSpeed();
+            for (Subscriber subscriber : entry.getValue().values()) {
+                if ((now + subscriber.phase) % speed == 0) {
+                    scheduler.requestImmediate(subscriber.id);
+                }
             }
         }
     }
 
     /**
-     * Check if text contains animation placeholders
+     * Get the animation clock in ticks
      */
-    public boolean containsAnimations(String text) {
-        return text != null && animationPattern.matcher(text).find();
+    public long getClock() {
+        return clock;
+    }
+
+    /**
+     * Get the number of times animations have been loaded, changes whenever frames may have changed
+     */
+    public int getGeneration() {
+        return generation;
     }
 
     /**
@@ -205,6 +234,19 @@ public class TextAnimationManager {
         return animations.values();
     }
 
+    /**
+     * A hologram using an animation, with its phase resolved once when it subscribes
+     */
+    private static class Subscriber {
+        private final String id;
+        private final int phase;
+
+        private Subscriber(String id, int phase) {
+            this.id = id;
+            this.phase = phase;
+        }
+    }
+
     /**
      * Class representing a text animation
      */
@@ -216,7 +258,7 @@ public class TextAnimationManager {
         public TextAnimation(String name, List<String> frames, int speed) {
             this.name = name;
             this.frames = frames;
-            this.speed = speed;
+            this.speed = Math.max(1, speed);
         }
 
         public String getName() {
@@ -239,6 +281,22 @@ public class TextAnimationManager {
             if (frames.isEmpty()) return "";
             return frames.get(index % frames.size());
         }
+
+        /**
+         * Get the frame shown after a number of clock ticks
+         */
+        public String getFrameAt(long ticks) {
+            if (frames.isEmpty()) return "";
+            return frames.get(getFrameIndex(ticks));
+        }
+
+        /**
+         * Get the index of the frame shown after a number of clock ticks
+         */
+        public int getFrameIndex(long ticks) {
+            if (frames.isEmpty()) return 0;
+            return (int) Math.floorMod(Math.floorDiv(ticks, (long) speed), (long) frames.size());
+        }
     }
 }
 
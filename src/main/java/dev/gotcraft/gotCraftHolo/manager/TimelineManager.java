@@ -0,0 +1,172 @@
+package dev.gotcraft.gotCraftHolo.manager;
+
+import dev.gotcraft.gotCraftHolo.GotCraftHolo;
+import dev.gotcraft.gotCraftHolo.model.Timeline;
+import dev.gotcraft.gotCraftHolo.util.Easing;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manager for timeline animations
+ * Loads keyframe timelines from the timelines folder and compiles them into sampled tracks
+ */
+public class TimelineManager {
+
+    private final GotCraftHolo plugin;
+    private final File timelinesFolder;
+    private final Map<String, Timeline> timelines;
+
+    public TimelineManager(GotCraftHolo plugin) {
+        this.plugin = plugin;
+        this.timelinesFolder = new File(plugin.getDataFolder(), "timelines");
+        this.timelines = new ConcurrentHashMap<>();
+
+        // Create timelines folder if it doesn't exist
+        if (!timelinesFolder.exists()) {
+            timelinesFolder.mkdirs();
+            createDefaultTimelines();
+        }
+
+        loadAllTimelines();
+    }
+
+    /**
+     * Create default timeline files
+     */
+    private void createDefaultTimelines() {
+        // Bob up and down while spinning and pulsing, for showcase items
+        YamlConfiguration showcase = new YamlConfiguration();
+        showcase.set("name", "showcase");
+        showcase.set("duration", 80);
+        showcase.set("loop", true);
+        showcase.set("tracks.translation", Arrays.asList(
+            keyframe(0, "0,0,0", null),
+            keyframe(40, "0,0.25,0", Easing.EASE_IN_OUT_SINE),
+            keyframe(80, "0,0,0", Easing.EASE_IN_OUT_SINE)
+        ));
+        showcase.set("tracks.rotation", Arrays.asList(
+            keyframe(0, "0,0", null),
+            keyframe(80, "360,0", Easing.LINEAR)
+        ));
+        showcase.set("tracks.scale", Arrays.asList(
+            keyframe(0, "1,1,1", null),
+            keyframe(40, "1.15,1.15,1.15", Easing.EASE_IN_OUT_QUAD),
+            keyframe(80, "1,1,1", Easing.EASE_IN_OUT_QUAD)
+        ));
+        saveDefaultTimeline("showcase", showcase);
+
+        // Grow in from nothing once, then stay
+        YamlConfiguration popIn = new YamlConfiguration();
+        popIn.set("name", "pop-in");
+        popIn.set("duration", 20);
+        popIn.set("loop", false);
+        popIn.set("tracks.scale", Arrays.asList(
+            keyframe(0, "0,0,0", null),
+            keyframe(20, "1,1,1", Easing.EASE_OUT_BACK)
+        ));
+        saveDefaultTimeline("pop-in", popIn);
+
+        plugin.getLogger().info("Created default timelines");
+    }
+
+    private Map<String, Object> keyframe(int tick, String value, Easing easing) {
+        Map<String, Object> keyframe = new LinkedHashMap<>();
+        keyframe.put("tick", tick);
+        keyframe.put("value", value);
+        if (easing != null) {
+            keyframe.put("easing", easing.name().toLowerCase().replace('_', '-'));
+        }
+        return keyframe;
+    }
+
+    private void saveDefaultTimeline(String name, YamlConfiguration config) {
+        try {
+            File file = new File(timelinesFolder, name + ".yml");
+            if (!file.exists()) {
+                config.save(file);
+            }
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to create default timeline: " + name);
+        }
+    }
+
+    /**
+     * Load and compile all timelines from the timelines folder
+     */
+    public void loadAllTimelines() {
+        timelines.clear();
+
+        File[] files = timelinesFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files == null || files.length == 0) {
+            plugin.getLogger().info("No timelines found to load");
+            return;
+        }
+
+        int loaded = 0;
+        for (File file : files) {
+            try {
+                YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+                String name = config.getString("name", file.getName().replace(".yml", ""));
+                int duration = config.getInt("duration", 20);
+                boolean loop = config.getBoolean("loop", true);
+
+                List<Timeline.Keyframe> translation = parseTrack(config.getMapList("tracks.translation"));
+                List<Timeline.Keyframe> scale = parseTrack(config.getMapList("tracks.scale"));
+                List<Timeline.Keyframe> rotation = parseTrack(config.getMapList("tracks.rotation"));
+
+                if (translation.isEmpty() && scale.isEmpty() && rotation.isEmpty()) {
+                    plugin.getLogger().warning("Timeline " + name + " has no keyframes");
+                    continue;
+                }
+
+                timelines.put(name.toLowerCase(), Timeline.compile(name, duration, loop, translation, scale, rotation));
+                loaded++;
+            } catch (Exception e) {
+                plugin.getLogger().warning("Failed to load timeline from " + file.getName() + ": " + e.getMessage());
+            }
+        }
+
+        plugin.getLogger().info("Loaded " + loaded + " timeline(s)");
+    }
+
+    /**
+     * Parse a track's keyframes, each with a tick, a comma-separated value and an optional easing
+     */
+    private List<Timeline.Keyframe> parseTrack(List<Map<?, ?>> entries) {
+        List<Timeline.Keyframe> keyframes = new ArrayList<>();
+        for (Map<?, ?> entry : entries) {
+            Object tick = entry.get("tick");
+            Object value = entry.get("value");
+            if (tick == null || value == null) {
+                continue;
+            }
+
+            String[] parts = value.toString().split(",");
+            double x = Double.parseDouble(parts[0].trim());
+            double y = parts.length > 1 ? Double.parseDouble(parts[1].trim()) : x;
+            double z = parts.length > 2 ? Double.parseDouble(parts[2].trim()) : (parts.length > 1 ? 0 : x);
+
+            Object easing = entry.get("easing");
+            keyframes.add(new Timeline.Keyframe(Integer.parseInt(tick.toString()), x, y, z,
+                Easing.fromName(easing != null ? easing.toString() : null)));
+        }
+        return keyframes;
+    }
+
+    /**
+     * Get timeline by name, or null if it doesn't exist
+     */
+    public Timeline getTimeline(String name) {
+        return name != null ? timelines.get(name.toLowerCase()) : null;
+    }
+
+    /**
+     * Get the names of all loaded timelines
+     */
+    public Set<String> getTimelineNames() {
+        return Collections.unmodifiableSet(timelines.keySet());
+    }
+}
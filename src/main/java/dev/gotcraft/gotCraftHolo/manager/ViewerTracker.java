@@ -0,0 +1,429 @@
+package dev.gotcraft.gotCraftHolo.manager;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerSetPassengers;
+import com.maximde.hologramlib.hologram.Hologram;
+import com.maximde.hologramlib.hologram.RenderMode;
+import dev.gotcraft.gotCraftHolo.GotCraftHolo;
+import dev.gotcraft.gotCraftHolo.model.HoloDefinition;
+import dev.gotcraft.gotCraftHolo.model.HoloType;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tracks which players can see each hologram
+ * A player's visible set is only recomputed when they cross into another cell, using the {@link SpatialIndex}.
+ * With visibility management enabled holograms are spawned in viewer-list mode, and only the difference
+ * between a player's old and new set is spawned or destroyed for them (main thread only).
+ * Leaderboards are shown by HologramLib itself, so they are only tracked for viewer counts and never capped.
+ */
+public class ViewerTracker implements Listener {
+
+    private final GotCraftHolo plugin;
+    private final HoloManager holoManager;
+    private final Map<UUID, PlayerView> views; // Player -> cell and holograms they can see
+    private final Map<String, Set<Player>> viewers; // Hologram ID -> players that can see it
+
+    // Settings, reloaded with the holograms
+    private boolean managingVisibility = true;
+    private int cellShift = 3; // 8 block cells
+    private int maxPerPlayer = 0; // 0 = unlimited
+
+    // Reporting
+    private long recomputes = 0;
+    private long cappedRecomputes = 0;
+
+    public ViewerTracker(GotCraftHolo plugin, HoloManager holoManager) {
+        this.plugin = plugin;
+        this.holoManager = holoManager;
+        this.views = new HashMap<>();
+        this.viewers = new HashMap<>();
+    }
+
+    /**
+     * Load settings from the performance.visibility config section
+     * Takes effect for holograms spawned afterwards, so it should be called before they are (re)loaded
+     */
+    public void configure(ConfigurationSection section) {
+        if (section == null) {
+            return;
+        }
+
+        managingVisibility = section.getBoolean("enabled", true);
+        int cellSize = Math.max(1, section.getInt("cell-size", 8));
+        cellShift = 31 - Integer.numberOfLeadingZeros(cellSize); // Rounded down to a power of two
+        maxPerPlayer = Math.max(0, section.getInt("max-per-player", 0));
+    }
+
+    /**
+     * Get the render mode holograms should be spawned with
+     * Viewer-list holograms are only shown to the players this tracker adds
+     */
+    public RenderMode getRenderMode() {
+        return managingVisibility ? RenderMode.VIEWER_LIST : RenderMode.NEARBY;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location to = event.getTo();
+
+        // Only recompute when the player crosses into another cell
+        PlayerView view = views.get(event.getPlayer().getUniqueId());
+        if (view != null && view.cellX == to.getBlockX() >> cellShift && view.cellY == to.getBlockY() >> cellShift
+            && view.cellZ == to.getBlockZ() >> cellShift && to.getWorld() == view.world) {
+            return;
+        }
+        updatePlayer(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        // Entities spawned before a dimension change are wiped by it, the world change event rebuilds instead
+        if (event.getFrom().getWorld() != event.getTo().getWorld()) {
+            return;
+        }
+        updatePlayer(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        updatePlayer(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        rebuildPlayer(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        // Respawning clears the client's entities, rebuild once the player is in the world again
+        Player player = event.getPlayer();
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (player.isOnline()) {
+                rebuildPlayer(player);
+            }
+        });
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Player player = event.getPlayer();
+        PlayerView view = views.remove(player.getUniqueId());
+        if (view != null) {
+            for (String id : view.visible) {
+                removeViewer(id, player);
+            }
+            for (String id : view.leaderboards) {
+                removeViewer(id, player);
+            }
+        }
+    }
+
+    /**
+     * Forget what a player could see and show everything in range again
+     * Used after the client dropped its entities, where sending only the difference would leave them invisible
+     */
+    public void rebuildPlayer(Player player) {
+        PlayerView view = views.remove(player.getUniqueId());
+        if (view != null) {
+            for (String id : view.visible) {
+                removeViewer(id, player);
+            }
+            for (String id : view.leaderboards) {
+                removeViewer(id, player);
+            }
+        }
+        updatePlayer(player, player.getLocation());
+    }
+
+    /**
+     * Recompute the holograms a player can see and apply the difference
+     * Holograms in range beyond the per-player cap are left out, nearest first
+     */
+    public void updatePlayer(Player player, Location location) {
+        recomputes++;
+
+        List<HoloDefinition> inRange = new ArrayList<>();
+        Set<String> leaderboards = new HashSet<>();
+        SpatialIndex index = holoManager.getSpatialIndex();
+        index.forEachCandidate(location, index.getMaxViewRange(), def -> {
+            if (holoManager.isActive(def.getId()) && isInRange(def, location)) {
+                if (isLeaderboard(def)) {
+                    leaderboards.add(def.getId());
+                } else {
+                    inRange.add(def);
+                }
+            }
+        });
+
+        if (maxPerPlayer > 0 && inRange.size() > maxPerPlayer) {
+            inRange.sort(Comparator.comparingDouble(def -> def.getLocation().distanceSquared(location)));
+            inRange.subList(maxPerPlayer, inRange.size()).clear();
+            cappedRecomputes++;
+        }
+
+        Set<String> current = new HashSet<>();
+        for (HoloDefinition def : inRange) {
+            current.add(def.getId());
+        }
+
+        PlayerView previousView = views.put(player.getUniqueId(), new PlayerView(location, cellShift, current, leaderboards));
+        applyDifference(player, previousView != null ? previousView.visible : Collections.emptySet(), current);
+        applyDifference(player, previousView != null ? previousView.leaderboards : Collections.emptySet(), leaderboards);
+    }
+
+    /**
+     * Add the player as a viewer of holograms that entered their set and remove them from those that left it
+     */
+    private void applyDifference(Player player, Set<String> previous, Set<String> current) {
+        for (String id : current) {
+            if (!previous.contains(id)) {
+                addViewer(id, player);
+            }
+        }
+        for (String id : previous) {
+            if (!current.contains(id)) {
+                removeViewer(id, player);
+            }
+        }
+    }
+
+    /**
+     * Start tracking a (re)spawned hologram against all online players
+     * Doesn't trigger a catch-up render, a freshly spawned hologram already shows current text
+     */
+    public void trackHologram(HoloDefinition def) {
+        untrackHologram(def.getId());
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (!isInRange(def, player.getLocation())) {
+                continue;
+            }
+
+            PlayerView view = views.computeIfAbsent(player.getUniqueId(),
+                k -> new PlayerView(player.getLocation(), cellShift, new HashSet<>(), new HashSet<>()));
+            if (isLeaderboard(def)) {
+                view.leaderboards.add(def.getId());
+            } else if (maxPerPlayer > 0 && view.visible.size() >= maxPerPlayer) {
+                continue; // Picked up by the player's next recompute if it's among the nearest
+            } else {
+                view.visible.add(def.getId());
+            }
+            viewers.computeIfAbsent(def.getId(), k -> new HashSet<>()).add(player);
+            show(def.getId(), player);
+        }
+    }
+
+    /**
+     * Stop tracking a hologram
+     * Doesn't send destroy packets, the hologram is being removed anyway
+     */
+    public void untrackHologram(String id) {
+        Set<Player> previous = viewers.remove(id);
+        if (previous != null) {
+            for (Player player : previous) {
+                PlayerView view = views.get(player.getUniqueId());
+                if (view != null) {
+                    view.visible.remove(id);
+                    view.leaderboards.remove(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget all tracking state
+     */
+    public void clear() {
+        views.clear();
+        viewers.clear();
+    }
+
+    /**
+     * Check if any player can see a hologram
+     */
+    public boolean hasViewers(String id) {
+        Set<Player> players = viewers.get(id);
+        return players != null && !players.isEmpty();
+    }
+
+    /**
+     * Get the number of players that can see a hologram
+     */
+    public int getViewerCount(String id) {
+        Set<Player> players = viewers.get(id);
+        return players != null ? players.size() : 0;
+    }
+
+    /**
+     * Get the players that can see a hologram
+     */
+    public Set<Player> getViewers(String id) {
+        Set<Player> players = viewers.get(id);
+        return players != null ? Collections.unmodifiableSet(players) : Collections.emptySet();
+    }
+
+    /**
+     * Get the number of holograms a player can see, not counting leaderboards
+     */
+    public int getVisibleCount(Player player) {
+        PlayerView view = views.get(player.getUniqueId());
+        return view != null ? view.visible.size() : 0;
+    }
+
+    /**
+     * Get the highest number of holograms any online player can see, not counting leaderboards
+     */
+    public int getMaxVisibleCount() {
+        int max = 0;
+        for (PlayerView view : views.values()) {
+            max = Math.max(max, view.visible.size());
+        }
+        return max;
+    }
+
+    /**
+     * Get the per-player visible hologram cap (0 = unlimited)
+     */
+    public int getMaxPerPlayer() {
+        return maxPerPlayer;
+    }
+
+    /**
+     * Get the number of visible set recomputes
+     */
+    public long getRecomputes() {
+        return recomputes;
+    }
+
+    /**
+     * Get the number of recomputes where the per-player cap left holograms out
+     */
+    public long getCappedRecomputes() {
+        return cappedRecomputes;
+    }
+
+    private void addViewer(String id, Player player) {
+        Set<Player> players = viewers.computeIfAbsent(id, k -> new HashSet<>());
+        players.add(player);
+        show(id, player);
+
+        // First viewer: render once to catch up on anything skipped while nobody was watching
+        if (players.size() == 1) {
+            holoManager.getRefreshScheduler().requestImmediate(id);
+        }
+    }
+
+    private void removeViewer(String id, Player player) {
+        Set<Player> players = viewers.get(id);
+        if (players != null) {
+            players.remove(player);
+            if (players.isEmpty()) {
+                viewers.remove(id);
+            }
+        }
+        hide(id, player);
+    }
+
+    /**
+     * Spawn a hologram, and the text below it, for a player
+     * Mounted text only follows its vehicle if the player also gets the passenger link, which HologramLib
+     * only sent to the viewers at spawn time
+     */
+    private void show(String id, Player player) {
+        if (!managingVisibility) {
+            return;
+        }
+
+        Hologram<?> hologram = holoManager.getActiveHologram(id);
+        if (hologram != null) {
+            hologram.addViewer(player);
+        }
+        Hologram<?> textHologram = holoManager.getActiveHologram(id + "_text");
+        if (textHologram != null) {
+            textHologram.addViewer(player);
+        }
+
+        if (hologram != null && textHologram != null && holoManager.isTextMounted(id)) {
+            PacketEvents.getAPI().getPlayerManager().sendPacket(player,
+                new WrapperPlayServerSetPassengers(hologram.getEntityID(), new int[]{textHologram.getEntityID()}));
+        }
+    }
+
+    /**
+     * Destroy a hologram, and the text below it, for a player
+     */
+    private void hide(String id, Player player) {
+        if (!managingVisibility) {
+            return;
+        }
+
+        Hologram<?> textHologram = holoManager.getActiveHologram(id + "_text");
+        if (textHologram != null) {
+            textHologram.removeViewer(player);
+        }
+        Hologram<?> hologram = holoManager.getActiveHologram(id);
+        if (hologram != null) {
+            hologram.removeViewer(player);
+        }
+    }
+
+    private boolean isLeaderboard(HoloDefinition def) {
+        return def.getType() == HoloType.LEADERBOARD;
+    }
+
+    private boolean isInRange(HoloDefinition def, Location location) {
+        Location holoLoc = def.getLocation();
+        World world = holoLoc.getWorld();
+        if (world == null || location == null || !world.equals(location.getWorld())) {
+            return false;
+        }
+
+        double range = def.getViewRange();
+        return holoLoc.distanceSquared(location) <= range * range;
+    }
+
+    /**
+     * The cell a player's visible set was computed in, and that set
+     */
+    private static class PlayerView {
+        private final World world;
+        private final int cellX;
+        private final int cellY; // View ranges are spherical, so moving up or down also changes what's in range
+        private final int cellZ;
+        private final Set<String> visible; // Holograms shown through this tracker, subject to the cap
+        private final Set<String> leaderboards; // Leaderboards in range, shown by HologramLib
+
+        private PlayerView(Location location, int cellShift, Set<String> visible, Set<String> leaderboards) {
+            this.world = location.getWorld();
+            this.cellX = location.getBlockX() >> cellShift;
+            this.cellY = location.getBlockY() >> cellShift;
+            this.cellZ = location.getBlockZ() >> cellShift;
+            this.visible = visible;
+            this.leaderboards = leaderboards;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package dev.gotcraft.gotCraftHolo.manager;
+
+import org.bukkit.Chunk;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Spawns holograms when their chunk or world loads and despawns them when it unloads
+ * Holograms in unloaded chunks or worlds keep only their definition, without render state, animations or refreshes.
+ */
+public class WorldListener implements Listener {
+
+    private final HoloManager holoManager;
+
+    public WorldListener(HoloManager holoManager) {
+        this.holoManager = holoManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        holoManager.bindWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        holoManager.unbindWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        holoManager.activateChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        holoManager.deactivateChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+}
@@ -2,6 +2,7 @@ package dev.gotcraft.gotCraftHolo.model;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.util.Vector;
@@ -18,11 +19,13 @@ public class HoloDefinition {
 
     private final String id;
     private HoloType type;
-    private Location location;
+    private Location location; // World is null while the world isn't loaded
+    private String worldName; // Kept while the world isn't loaded, so the location can be bound later
 
     // Text hologram properties
     private String text;
     private List<String> lines; // For multi-line support
+    private volatile TextTemplate template; // Compiled text, null until first use or after an edit
     private boolean shadow;
     private TextAlignment alignment;
     private int opacity;
@@ -56,6 +59,8 @@ public class HoloDefinition {
     private AnimationType animationType;
     private double animationSpeed;
     private double animationRadius;
+    private String animationTimeline; // Timeline name (for TIMELINE animations)
+    private int animationPhase; // Ticks this hologram runs ahead of the shared animation clock
 
     // Particle properties
     private boolean particlesEnabled;
@@ -73,6 +78,7 @@ public class HoloDefinition {
         this.id = id;
         this.type = type;
         this.location = location;
+        this.worldName = location.getWorld() != null ? location.getWorld().getName() : null;
 
         // Default values
         this.text = "";
@@ -120,7 +126,38 @@ public class HoloDefinition {
     public HoloType getType() { return type; }
     public void setType(HoloType type) { this.type = type; }
     public Location getLocation() { return location; }
-    public void setLocation(Location location) { this.location = location; }
+    public void setLocation(Location location) {
+        this.location = location;
+        if (location.getWorld() != null) {
+            this.worldName = location.getWorld().getName();
+        }
+    }
+
+    public String getWorldName() { return worldName; }
+
+    /**
+     * Check if the location is bound to a loaded world
+     */
+    public boolean isWorldLoaded() { return location.getWorld() != null; }
+
+    /**
+     * Bind the location to its world once that world has loaded
+     * Returns false if the world isn't the one this hologram is in
+     */
+    public boolean bindWorld(World world) {
+        if (world == null || !world.getName().equals(worldName)) {
+            return false;
+        }
+        location.setWorld(world);
+        return true;
+    }
+
+    /**
+     * Release the location's world when it unloads, keeping the world name and coordinates
+     */
+    public void unbindWorld() {
+        location.setWorld(null);
+    }
 
     public LeaderboardConfig getLeaderboardConfig() { return leaderboardConfig; }
     public void setLeaderboardConfig(LeaderboardConfig leaderboardConfig) { this.leaderboardConfig = leaderboardConfig; }
@@ -133,8 +170,21 @@ public class HoloDefinition {
         return text;
     }
 
+    /**
+     * Get the text compiled into a template, compiling it on first use after an edit
+     */
+    public TextTemplate getTemplate() {
+        TextTemplate compiled = template;
+        if (compiled == null) {
+            compiled = TextTemplate.compile(getText());
+            template = compiled;
+        }
+        return compiled;
+    }
+
     public void setText(String text) {
         this.text = text;
+        this.template = null;
         // Also update lines when setting text directly
         if (text != null && !text.isEmpty()) {
             String[] splitLines = text.split("<newline>");
@@ -150,6 +200,7 @@ public class HoloDefinition {
     public List<String> getLines() { return lines; }
     public void setLines(List<String> lines) {
         this.lines = lines;
+        this.template = null;
 
         // Auto-enable placeholders if any line contains % or { characters
         if (lines != null) {
@@ -163,6 +214,7 @@ public class HoloDefinition {
     }
     public void addLine(String line) {
         this.lines.add(line);
+        this.template = null;
 
         // Auto-enable placeholders if line contains % or { characters
         if (line != null && (line.contains("%") || line.contains("{"))) {
@@ -174,6 +226,7 @@ public class HoloDefinition {
             lines.add("");
         }
         lines.set(index, line);
+        this.template = null;
     }
     public String getLine(int index) {
         return index < lines.size() ? lines.get(index) : "";
@@ -228,6 +281,10 @@ public class HoloDefinition {
     public void setAnimationSpeed(double animationSpeed) { this.animationSpeed = animationSpeed; }
     public double getAnimationRadius() { return animationRadius; }
     public void setAnimationRadius(double animationRadius) { this.animationRadius = animationRadius; }
+    public String getAnimationTimeline() { return animationTimeline; }
+    public void setAnimationTimeline(String animationTimeline) { this.animationTimeline = animationTimeline; }
+    public int getAnimationPhase() { return animationPhase; }
+    public void setAnimationPhase(int animationPhase) { this.animationPhase = animationPhase; }
 
     public boolean isParticlesEnabled() { return particlesEnabled; }
     public void setParticlesEnabled(boolean particlesEnabled) { this.particlesEnabled = particlesEnabled; }
@@ -251,7 +308,7 @@ public class HoloDefinition {
 
         config.set("id", id);
         config.set("type", type.name());
-        config.set("location", serializeLocation(location));
+        config.set("location", serializeLocation(worldName, location));
 
         if (type == HoloType.TEXT) {
             // Only save lines, not text field
@@ -308,6 +365,7 @@ public class HoloDefinition {
             config.set("placeholders.enabled", true); // Always enabled for leaderboards
             config.set("placeholders.refresh", placeholderRefreshTicks);
         }
+        config.set("view.view-range", viewRange);
         config.set("view.see-through-blocks", seeThroughBlocks);
 
         config.set("scale", scale.getX() + "," + scale.getY() + "," + scale.getZ());
@@ -319,6 +377,8 @@ public class HoloDefinition {
         config.set("animation.type", animationType.name());
         config.set("animation.speed", animationSpeed);
         config.set("animation.radius", animationRadius);
+        config.set("animation.timeline", animationTimeline);
+        config.set("animation.phase", animationPhase);
 
         // Save particle properties
         config.set("particles.enabled", particlesEnabled);
@@ -337,13 +397,22 @@ public class HoloDefinition {
      * Load a hologram definition from a file
      */
     public static HoloDefinition load(File file) throws Exception {
+        return load(file, null);
+    }
+
+    /**
+     * Load a hologram definition from a file, using the settings.defaults config section for missing values
+     */
+    public static HoloDefinition load(File file, ConfigurationSection defaults) throws Exception {
         YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
 
         String id = config.getString("id");
         HoloType type = HoloType.valueOf(config.getString("type"));
-        Location location = deserializeLocation(config.getString("location"));
+        String locationString = config.getString("location");
+        Location location = deserializeLocation(locationString);
 
         HoloDefinition holo = new HoloDefinition(id, type, location);
+        holo.worldName = locationString.split(",")[0]; // Known even if the world isn't loaded yet
 
         if (type == HoloType.TEXT) {
             // Load lines from config
@@ -422,7 +491,7 @@ public class HoloDefinition {
             holo.setPlaceholderRefreshTicks(config.getInt("placeholders.refresh", 20));
         }
 
-        holo.setViewRange(config.getDouble("view.view-range", 25.0));
+        holo.setViewRange(config.getDouble("view.view-range", defaultViewRange(defaults, type)));
         holo.setSeeThroughBlocks(config.getBoolean("view.see-through-blocks", false));
 
         String scale = config.getString("scale", "1.0,1.0,1.0");
@@ -436,6 +505,8 @@ public class HoloDefinition {
         holo.setAnimationType(AnimationType.valueOf(config.getString("animation.type", "NONE")));
         holo.setAnimationSpeed(config.getDouble("animation.speed", 1.0));
         holo.setAnimationRadius(config.getDouble("animation.radius", 0.5));
+        holo.setAnimationTimeline(config.getString("animation.timeline"));
+        holo.setAnimationPhase(config.getInt("animation.phase", 0));
 
         // Load particle properties
         holo.setParticlesEnabled(config.getBoolean("particles.enabled", false));
@@ -449,11 +520,24 @@ public class HoloDefinition {
         return holo;
     }
 
-    private static String serializeLocation(Location loc) {
-        return loc.getWorld().getName() + "," + loc.getX() + "," + loc.getY() + "," + loc.getZ() +
+    /**
+     * Get the view range for new holograms of a type from the settings.defaults config section
+     */
+    public static double defaultViewRange(ConfigurationSection defaults, HoloType type) {
+        if (defaults == null) {
+            return 25.0;
+        }
+        return defaults.getDouble(type.name().toLowerCase() + ".view-range", 25.0);
+    }
+
+    private static String serializeLocation(String worldName, Location loc) {
+        return worldName + "," + loc.getX() + "," + loc.getY() + "," + loc.getZ() +
                "," + loc.getYaw() + "," + loc.getPitch();
     }
 
+    /**
+     * Parse a saved location, with a null world if the world isn't loaded (yet)
+     */
     private static Location deserializeLocation(String str) {
         String[] parts = str.split(",");
         return new Location(
@@ -498,7 +582,8 @@ public class HoloDefinition {
         BOUNCE,         // Move up and down
         CIRCLE,         // Move in a circle
         SPIRAL,         // Move in a spiral
-        SHAKE           // Shake/vibrate effect
+        SHAKE,          // Shake/vibrate effect
+        TIMELINE        // Keyframe timeline from the timelines folder
     }
 }
 
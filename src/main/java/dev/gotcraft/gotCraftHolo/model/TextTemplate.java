@@ -0,0 +1,183 @@
+package dev.gotcraft.gotCraftHolo.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Hologram text compiled into lines of literal, placeholder and text animation segments
+ * Compiled once when the text changes so refreshes don't have to rescan the whole string,
+ * and static lines are kept pre-rendered so only lines with dynamic segments are rendered again.
+ */
+public class TextTemplate {
+
+    public static final String LINE_SEPARATOR = "<newline>";
+
+    // Placeholders use the same pattern as PlaceholderAPI, animations use {anim:name}
+    private static final Pattern SEGMENT_PATTERN = Pattern.compile("%([^%]+)%|\\{anim:([^}]+)}");
+
+    public static final TextTemplate EMPTY = new TextTemplate("", List.of(Line.literal("")), Collections.emptySet(), 0, Collections.emptySet());
+
+    private final String source;
+    private final List<Line> lines;
+    private final Set<String> placeholders; // Distinct placeholder tokens, e.g. %server_online%
+    private final int placeholderOccurrences;
+    private final Set<String> animations; // Distinct lowercase animation names
+
+    private TextTemplate(String source, List<Line> lines, Set<String> placeholders,
+                         int placeholderOccurrences, Set<String> animations) {
+        this.source = source;
+        this.lines = lines;
+        this.placeholders = placeholders;
+        this.placeholderOccurrences = placeholderOccurrences;
+        this.animations = animations;
+    }
+
+    /**
+     * Compile text into a template, one line per {@value #LINE_SEPARATOR}-separated part
+     */
+    public static TextTemplate compile(String text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY;
+        }
+        if (text.indexOf('%') < 0 && !text.contains("{anim:")) {
+            return new TextTemplate(text, List.of(Line.literal(text)), Collections.emptySet(), 0, Collections.emptySet());
+        }
+
+        List<Line> lines = new ArrayList<>();
+        Set<String> placeholders = new LinkedHashSet<>();
+        Set<String> animations = new LinkedHashSet<>();
+        int occurrences = 0;
+
+        StringBuilder literal = new StringBuilder();
+        for (String lineText : text.split(LINE_SEPARATOR, -1)) {
+            List<Segment> segments = new ArrayList<>();
+            Matcher matcher = SEGMENT_PATTERN.matcher(lineText);
+            int last = 0;
+            while (last < lineText.length() && matcher.find(last)) {
+                literal.append(lineText, last, matcher.start());
+                last = matcher.end();
+
+                if (matcher.group(1) != null) {
+                    // PlaceholderAPI placeholders always have the form %identifier_params%.
+                    // Animations are expanded before placeholders, so a span containing one isn't a placeholder either.
+                    // Otherwise the % is a stray percent sign and matching resumes right after it.
+                    if (matcher.group(1).indexOf('_') <= 0 || matcher.group(1).contains("{anim:")) {
+                        literal.append('%');
+                        last = matcher.start() + 1;
+                        continue;
+                    }
+                    flushLiteral(literal, segments);
+                    segments.add(new Segment(SegmentType.PLACEHOLDER, matcher.group(), matcher.group()));
+                    placeholders.add(matcher.group());
+                    occurrences++;
+                } else {
+                    flushLiteral(literal, segments);
+                    segments.add(new Segment(SegmentType.ANIMATION, matcher.group(2).toLowerCase(), matcher.group()));
+                    animations.add(matcher.group(2).toLowerCase());
+                }
+            }
+            literal.append(lineText, last, lineText.length());
+            flushLiteral(literal, segments);
+
+            boolean dynamic = segments.stream().anyMatch(segment -> segment.type != SegmentType.LITERAL);
+            lines.add(dynamic ? new Line(Collections.unmodifiableList(segments), null) : Line.literal(lineText));
+        }
+
+        return new TextTemplate(text, Collections.unmodifiableList(lines),
+            Collections.unmodifiableSet(placeholders), occurrences, Collections.unmodifiableSet(animations));
+    }
+
+    private static void flushLiteral(StringBuilder literal, List<Segment> segments) {
+        if (literal.length() > 0) {
+            String value = literal.toString();
+            segments.add(new Segment(SegmentType.LITERAL, value, value));
+            literal.setLength(0);
+        }
+    }
+
+    /**
+     * Get the text this template was compiled from
+     */
+    public String getSource() { return source; }
+
+    public List<Line> getLines() { return lines; }
+
+    /**
+     * Get the distinct placeholder tokens used by this template
+     */
+    public Set<String> getPlaceholders() { return placeholders; }
+
+    /**
+     * Get the number of placeholder occurrences, including duplicates
+     */
+    public int getPlaceholderOccurrences() { return placeholderOccurrences; }
+
+    /**
+     * Get the distinct (lowercase) text animation names used by this template
+     */
+    public Set<String> getAnimations() { return animations; }
+
+    public boolean hasPlaceholders() { return !placeholders.isEmpty(); }
+    public boolean hasAnimations() { return !animations.isEmpty(); }
+
+    /**
+     * Check if rendering this template can produce different text over time
+     */
+    public boolean isDynamic() { return !animations.isEmpty() || !placeholders.isEmpty(); }
+
+    /**
+     * A single line of a compiled template
+     * Static lines carry their text, dynamic lines carry the segments to render
+     */
+    public static class Line {
+        private final List<Segment> segments;
+        private final String literal; // Null when the line is dynamic
+
+        private Line(List<Segment> segments, String literal) {
+            this.segments = segments;
+            this.literal = literal;
+        }
+
+        private static Line literal(String text) {
+            return new Line(List.of(new Segment(SegmentType.LITERAL, text, text)), text);
+        }
+
+        public List<Segment> getSegments() { return segments; }
+        public String getLiteral() { return literal; }
+        public boolean isDynamic() { return literal == null; }
+    }
+
+    /**
+     * Type of a template segment
+     */
+    public enum SegmentType {
+        LITERAL,
+        PLACEHOLDER,
+        ANIMATION
+    }
+
+    /**
+     * A piece of a compiled template
+     * The value is the literal text, the placeholder token or the lowercase animation name
+     */
+    public static class Segment {
+        private final SegmentType type;
+        private final String value;
+        private final String raw; // Original text, used when an animation can't be found
+
+        private Segment(SegmentType type, String value, String raw) {
+            this.type = type;
+            this.value = value;
+            this.raw = raw;
+        }
+
+        public SegmentType getType() { return type; }
+        public String getValue() { return value; }
+        public String getRaw() { return raw; }
+    }
+}
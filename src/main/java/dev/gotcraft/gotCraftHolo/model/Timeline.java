@@ -0,0 +1,173 @@
+package dev.gotcraft.gotCraftHolo.model;
+
+import dev.gotcraft.gotCraftHolo.util.Easing;
+import dev.gotcraft.gotCraftHolo.util.RotationUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keyframe animation of a display entity's translation, scale and rotation
+ * Keyframes are sampled into one transformation per tick when the timeline is compiled,
+ * so playing it back is a single array lookup.
+ */
+public class Timeline {
+
+    // Layout of one sampled frame
+    public static final int TRANSLATION = 0; // x, y, z
+    public static final int SCALE = 3; // x, y, z
+    public static final int ROTATION = 6; // Quaternion x, y, z, w
+    public static final int STRIDE = 10;
+
+    private static final int MAX_FRAMES = 20 * 60 * 10; // 10 minutes per cycle
+
+    private final String name;
+    private final boolean loop;
+    private final int frames;
+    private final float[] samples; // STRIDE floats per frame
+
+    private Timeline(String name, boolean loop, int frames, float[] samples) {
+        this.name = name;
+        this.loop = loop;
+        this.frames = frames;
+        this.samples = samples;
+    }
+
+    /**
+     * Compile keyframe tracks into a timeline of the given length in ticks
+     * Rotation keyframes hold yaw and pitch in degrees in x and y. Empty tracks keep the property unchanged.
+     */
+    public static Timeline compile(String name, int duration, boolean loop,
+                                   List<Keyframe> translation, List<Keyframe> scale, List<Keyframe> rotation) {
+        duration = Math.max(1, Math.min(MAX_FRAMES, duration));
+        int frames = loop ? duration : duration + 1; // A looping timeline's last tick is its first frame again
+        float[] samples = new float[frames * STRIDE];
+
+        List<Keyframe> translationTrack = sorted(translation);
+        List<Keyframe> scaleTrack = sorted(scale);
+        List<Keyframe> rotationTrack = sorted(rotation);
+        double[] value = new double[3];
+        float[] quat = new float[4];
+
+        for (int frame = 0; frame < frames; frame++) {
+            int offset = frame * STRIDE;
+
+            sample(translationTrack, frame, 0, value);
+            samples[offset + TRANSLATION] = (float) value[0];
+            samples[offset + TRANSLATION + 1] = (float) value[1];
+            samples[offset + TRANSLATION + 2] = (float) value[2];
+
+            sample(scaleTrack, frame, 1, value);
+            samples[offset + SCALE] = (float) value[0];
+            samples[offset + SCALE + 1] = (float) value[1];
+            samples[offset + SCALE + 2] = (float) value[2];
+
+            // Angles are interpolated before conversion, so a keyframe can spin more than half a turn
+            sample(rotationTrack, frame, 0, value);
+            RotationUtil.yawPitchToQuaternion((float) value[0], (float) value[1], quat);
+            System.arraycopy(quat, 0, samples, offset + ROTATION, 4);
+        }
+
+        return new Timeline(name, loop, frames, samples);
+    }
+
+    private static List<Keyframe> sorted(List<Keyframe> track) {
+        List<Keyframe> copy = new ArrayList<>(track == null ? List.of() : track);
+        copy.sort(Comparator.comparingInt(Keyframe::getTick));
+        return copy;
+    }
+
+    /**
+     * Value of a track at a tick, eased between the surrounding keyframes and held before the first and after the last
+     */
+    private static void sample(List<Keyframe> track, int tick, double defaultValue, double[] out) {
+        if (track.isEmpty()) {
+            out[0] = out[1] = out[2] = defaultValue;
+            return;
+        }
+
+        Keyframe previous = track.get(0);
+        if (tick <= previous.tick) {
+            previous.copyTo(out);
+            return;
+        }
+
+        for (int i = 1; i < track.size(); i++) {
+            Keyframe next = track.get(i);
+            if (tick <= next.tick) {
+                double progress = next.tick == previous.tick ? 1 : (double) (tick - previous.tick) / (next.tick - previous.tick);
+                double factor = next.easing.apply(progress); // A keyframe's easing shapes the segment leading up to it
+                out[0] = previous.x + (next.x - previous.x) * factor;
+                out[1] = previous.y + (next.y - previous.y) * factor;
+                out[2] = previous.z + (next.z - previous.z) * factor;
+                return;
+            }
+            previous = next;
+        }
+        previous.copyTo(out);
+    }
+
+    /**
+     * Get the frame shown after a number of ticks, wrapping for looping timelines and holding the last frame otherwise
+     */
+    public int frameAt(long tick) {
+        if (loop) {
+            return (int) Math.floorMod(tick, (long) frames);
+        }
+        return (int) Math.max(0, Math.min(frames - 1, tick));
+    }
+
+    /**
+     * Copy the STRIDE sampled values of a frame into out
+     */
+    public void copyFrame(int frame, float[] out) {
+        System.arraycopy(samples, frame * STRIDE, out, 0, STRIDE);
+    }
+
+    /**
+     * Check if a non-looping timeline has reached its last frame
+     */
+    public boolean isFinished(long tick) {
+        return !loop && tick >= frames - 1;
+    }
+
+    public String getName() { return name; }
+    public boolean isLoop() { return loop; }
+
+    /**
+     * Get the number of sampled frames (ticks) in one cycle
+     */
+    public int getFrames() { return frames; }
+
+    /**
+     * A value a track reaches at a tick
+     */
+    public static class Keyframe {
+        private final int tick;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final Easing easing;
+
+        public Keyframe(int tick, double x, double y, double z, Easing easing) {
+            this.tick = Math.max(0, tick);
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.easing = easing != null ? easing : Easing.LINEAR;
+        }
+
+        private void copyTo(double[] out) {
+            out[0] = x;
+            out[1] = y;
+            out[2] = z;
+        }
+
+        public int getTick() { return tick; }
+        public double getX() { return x; }
+        public double getY() { return y; }
+        public double getZ() { return z; }
+        public Easing getEasing() { return easing; }
+    }
+}
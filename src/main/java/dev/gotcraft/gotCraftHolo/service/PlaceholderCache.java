@@ -0,0 +1,185 @@
+package dev.gotcraft.gotCraftHolo.service;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of resolved placeholder values with per-placeholder TTLs
+ * Optionally serves the last value while a fresh one is computed in the background (stale-while-revalidate)
+ */
+public class PlaceholderCache {
+
+    private final int maxSize;
+    private final long defaultTtlMillis;
+    private final Map<String, Long> ttls; // Placeholder params or expansion identifier -> TTL in ms
+    private final boolean staleWhileRevalidate;
+    private final Executor asyncExecutor;
+    private final Executor mainThreadExecutor;
+    private final LinkedHashMap<String, CachedValue> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong staleServed = new AtomicLong();
+
+    public PlaceholderCache(int maxSize, long defaultTtlMillis, Map<String, Long> ttls, boolean staleWhileRevalidate,
+                            Executor asyncExecutor, Executor mainThreadExecutor) {
+        this.maxSize = Math.max(1, maxSize);
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.ttls = ttls;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.asyncExecutor = asyncExecutor;
+        this.mainThreadExecutor = mainThreadExecutor;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedValue> eldest) {
+                return size() > PlaceholderCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Create a cache from the performance.placeholder-cache config section
+     */
+    public static PlaceholderCache fromConfig(ConfigurationSection section, Executor asyncExecutor, Executor mainThreadExecutor) {
+        Map<String, Long> ttls = new HashMap<>();
+        ConfigurationSection ttlSection = section.getConfigurationSection("ttl");
+        if (ttlSection != null) {
+            for (String key : ttlSection.getKeys(false)) {
+                ttls.put(key.toLowerCase(), ttlSection.getLong(key));
+            }
+        }
+
+        return new PlaceholderCache(
+            section.getInt("max-size", 1000),
+            section.getLong("default-ttl", 0),
+            ttls,
+            section.getBoolean("stale-while-revalidate", false),
+            asyncExecutor,
+            mainThreadExecutor
+        );
+    }
+
+    /**
+     * Get the value of a placeholder token, computing it with the loader if not cached or expired
+     */
+    public String get(String token, Function<String, String> loader) {
+        long ttl = ttlFor(token);
+        if (ttl <= 0) {
+            return loader.apply(token); // Not cached
+        }
+
+        long now = System.currentTimeMillis();
+        CachedValue cached;
+        synchronized (entries) {
+            cached = entries.get(token);
+        }
+
+        if (cached != null) {
+            if (now < cached.expiresAt) {
+                hits.incrementAndGet();
+                return cached.value;
+            }
+
+            if (staleWhileRevalidate) {
+                staleServed.incrementAndGet();
+                revalidate(token, cached, loader, ttl);
+                return cached.value;
+            }
+        }
+
+        misses.incrementAndGet();
+        String value = loader.apply(token);
+        put(token, value, ttl);
+        return value;
+    }
+
+    /**
+     * Drop all cached values
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getStaleServed() { return staleServed.get(); }
+
+    private void revalidate(String token, CachedValue cached, Function<String, String> loader, long ttl) {
+        if (!cached.refreshing.compareAndSet(false, true)) {
+            return; // Already being recomputed
+        }
+
+        Executor executor = PlaceholderService.requiresMainThread(token) ? mainThreadExecutor : asyncExecutor;
+        try {
+            executor.execute(() -> {
+                try {
+                    put(token, loader.apply(token), ttl);
+                } finally {
+                    cached.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            cached.refreshing.set(false); // Shutting down, keep serving the stale value
+        }
+    }
+
+    private void put(String token, String value, long ttl) {
+        synchronized (entries) {
+            entries.put(token, new CachedValue(value, System.currentTimeMillis() + ttl));
+        }
+    }
+
+    /**
+     * TTL for a token: exact placeholder first (without %), then its expansion identifier, then the default
+     */
+    private long ttlFor(String token) {
+        if (ttls.isEmpty()) {
+            return defaultTtlMillis;
+        }
+
+        String params = token.substring(1, token.length() - 1).toLowerCase();
+        Long ttl = ttls.get(params);
+        if (ttl != null) {
+            return ttl;
+        }
+
+        int underscore = params.indexOf('_');
+        if (underscore > 0) {
+            ttl = ttls.get(params.substring(0, underscore));
+            if (ttl != null) {
+                return ttl;
+            }
+        }
+        return defaultTtlMillis;
+    }
+
+    /**
+     * A cached placeholder value
+     */
+    private static class CachedValue {
+        private final String value;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private CachedValue(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -2,14 +2,34 @@ package dev.gotcraft.gotCraftHolo.service;
 
 import me.clip.placeholderapi.PlaceholderAPI;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Service for handling PlaceholderAPI integration
  */
 public class PlaceholderService {
 
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%([^%]+)%"); // Same as PlaceholderAPI
+
     private static boolean placeholderAPIEnabled = false;
+    private static volatile Set<String> mainThreadExpansions = Collections.emptySet();
+    private static volatile PlaceholderCache cache; // Null when caching is disabled
+    private static ExecutorService revalidator; // Recomputes stale cached values off-thread
 
     /**
      * Initialize the placeholder service
@@ -25,6 +45,47 @@ public class PlaceholderService {
         return placeholderAPIEnabled;
     }
 
+    /**
+     * Set up the placeholder value cache from the performance.placeholder-cache config section
+     * Replaces (and clears) any previously configured cache
+     */
+    public static void configureCache(Plugin plugin, ConfigurationSection section) {
+        shutdownCache();
+        if (section == null || !section.getBoolean("enabled", true)) {
+            return;
+        }
+
+        revalidator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "GotCraftHolo-Placeholders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cache = PlaceholderCache.fromConfig(section, revalidator, runnable -> {
+            if (!plugin.isEnabled()) {
+                throw new RejectedExecutionException("Plugin is disabled");
+            }
+            Bukkit.getScheduler().runTask(plugin, runnable);
+        });
+    }
+
+    /**
+     * Drop the placeholder value cache and stop background revalidation
+     */
+    public static void shutdownCache() {
+        cache = null;
+        if (revalidator != null) {
+            revalidator.shutdownNow();
+            revalidator = null;
+        }
+    }
+
+    /**
+     * Get the placeholder value cache, or null if caching is disabled
+     */
+    public static PlaceholderCache getCache() {
+        return cache;
+    }
+
     /**
      * Replace placeholders in text
      * If no player is provided, uses offline player context
@@ -33,7 +94,18 @@ public class PlaceholderService {
         if (!placeholderAPIEnabled || text == null) {
             return text;
         }
-        return PlaceholderAPI.setPlaceholders(null, text);
+        if (cache == null) {
+            return PlaceholderAPI.setPlaceholders(null, text);
+        }
+
+        // Resolve token by token so cached values are used
+        Set<String> tokens = new LinkedHashSet<>();
+        collectPlaceholders(text, tokens);
+        Map<String, String> values = new HashMap<>();
+        for (String token : tokens) {
+            values.put(token, resolvePlaceholder(token));
+        }
+        return applyResolved(text, values);
     }
 
     /**
@@ -46,6 +118,92 @@ public class PlaceholderService {
         return PlaceholderAPI.setPlaceholders(player, text);
     }
 
+    /**
+     * Add every placeholder token in text (e.g. %server_online%) to tokens
+     * Returns the number of occurrences found, including duplicates
+     */
+    public static int collectPlaceholders(String text, Collection<String> tokens) {
+        if (text == null || !containsPlaceholders(text)) {
+            return 0;
+        }
+
+        int occurrences = 0;
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(text);
+        while (matcher.find()) {
+            // PlaceholderAPI placeholders always have the form %identifier_params%
+            if (matcher.group(1).indexOf('_') > 0) {
+                tokens.add(matcher.group());
+                occurrences++;
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Resolve a single placeholder token without player context
+     * Served from the cache when the token has a TTL configured
+     */
+    public static String resolvePlaceholder(String token) {
+        if (!placeholderAPIEnabled) {
+            return token;
+        }
+
+        PlaceholderCache current = cache;
+        if (current == null) {
+            return PlaceholderAPI.setPlaceholders(null, token);
+        }
+        return current.get(token, key -> PlaceholderAPI.setPlaceholders(null, key));
+    }
+
+    /**
+     * Replace placeholder tokens in text with already resolved values
+     * Tokens without a resolved value are left as-is
+     */
+    public static String applyResolved(String text, Map<String, String> values) {
+        if (text == null || values.isEmpty() || !containsPlaceholders(text)) {
+            return text;
+        }
+
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(text);
+        StringBuilder result = new StringBuilder(text.length());
+        while (matcher.find()) {
+            String value = values.get(matcher.group());
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Set the expansion identifiers that are not thread-safe and must be resolved on the main thread
+     */
+    public static void setMainThreadExpansions(Collection<String> identifiers) {
+        mainThreadExpansions = identifiers.stream()
+            .map(String::toLowerCase)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Check if text uses an expansion that must be resolved on the main thread
+     * The identifier is the part of the placeholder before the first underscore, e.g. vault in %vault_eco_balance%
+     */
+    public static boolean requiresMainThread(String text) {
+        if (text == null || mainThreadExpansions.isEmpty() || !containsPlaceholders(text)) {
+            return false;
+        }
+
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(text);
+        while (matcher.find()) {
+            String params = matcher.group(1);
+            int underscore = params.indexOf('_');
+            String identifier = underscore > 0 ? params.substring(0, underscore) : params;
+            if (mainThreadExpansions.contains(identifier.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check if text contains any placeholders
      */
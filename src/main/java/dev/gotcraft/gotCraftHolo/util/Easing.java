@@ -0,0 +1,96 @@
+package dev.gotcraft.gotCraftHolo.util;
+
+/**
+ * Easing curves for timeline keyframes
+ * Each curve maps progress t in [0, 1] between two keyframes to an interpolation factor
+ */
+public enum Easing {
+    LINEAR,
+    STEP,               // Jump to the next value at the end of the segment
+    EASE_IN_SINE,
+    EASE_OUT_SINE,
+    EASE_IN_OUT_SINE,
+    EASE_IN_QUAD,
+    EASE_OUT_QUAD,
+    EASE_IN_OUT_QUAD,
+    EASE_IN_CUBIC,
+    EASE_OUT_CUBIC,
+    EASE_IN_OUT_CUBIC,
+    EASE_OUT_BACK,      // Overshoots slightly before settling
+    EASE_OUT_BOUNCE,
+    EASE_OUT_ELASTIC;
+
+    private static final double BACK_OVERSHOOT = 1.70158;
+
+    /**
+     * Apply this curve to progress t in [0, 1]
+     */
+    public double apply(double t) {
+        switch (this) {
+            case STEP:
+                return t < 1 ? 0 : 1;
+            case EASE_IN_SINE:
+                return 1 - Math.cos(t * Math.PI / 2);
+            case EASE_OUT_SINE:
+                return Math.sin(t * Math.PI / 2);
+            case EASE_IN_OUT_SINE:
+                return -(Math.cos(Math.PI * t) - 1) / 2;
+            case EASE_IN_QUAD:
+                return t * t;
+            case EASE_OUT_QUAD:
+                return 1 - (1 - t) * (1 - t);
+            case EASE_IN_OUT_QUAD:
+                return t < 0.5 ? 2 * t * t : 1 - Math.pow(-2 * t + 2, 2) / 2;
+            case EASE_IN_CUBIC:
+                return t * t * t;
+            case EASE_OUT_CUBIC:
+                return 1 - Math.pow(1 - t, 3);
+            case EASE_IN_OUT_CUBIC:
+                return t < 0.5 ? 4 * t * t * t : 1 - Math.pow(-2 * t + 2, 3) / 2;
+            case EASE_OUT_BACK:
+                double c3 = BACK_OVERSHOOT + 1;
+                return 1 + c3 * Math.pow(t - 1, 3) + BACK_OVERSHOOT * Math.pow(t - 1, 2);
+            case EASE_OUT_BOUNCE:
+                return bounceOut(t);
+            case EASE_OUT_ELASTIC:
+                if (t <= 0 || t >= 1) {
+                    return t <= 0 ? 0 : 1;
+                }
+                return Math.pow(2, -10 * t) * Math.sin((t * 10 - 0.75) * (2 * Math.PI / 3)) + 1;
+            case LINEAR:
+            default:
+                return t;
+        }
+    }
+
+    private static double bounceOut(double t) {
+        double n1 = 7.5625;
+        double d1 = 2.75;
+        if (t < 1 / d1) {
+            return n1 * t * t;
+        } else if (t < 2 / d1) {
+            t -= 1.5 / d1;
+            return n1 * t * t + 0.75;
+        } else if (t < 2.5 / d1) {
+            t -= 2.25 / d1;
+            return n1 * t * t + 0.9375;
+        }
+        t -= 2.625 / d1;
+        return n1 * t * t + 0.984375;
+    }
+
+    /**
+     * Get an easing by name, accepting any case and dashes (e.g. ease-in-out-sine)
+     * Returns LINEAR if the name is unknown or null
+     */
+    public static Easing fromName(String name) {
+        if (name == null || name.isEmpty()) {
+            return LINEAR;
+        }
+        try {
+            return valueOf(name.toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return LINEAR;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package dev.gotcraft.gotCraftHolo.util;
+
+/**
+ * Utility class for display entity rotations
+ */
+public class RotationUtil {
+
+    /**
+     * Convert yaw and pitch to quaternion for left rotation
+     * Returns array: [x, y, z, w]
+     */
+    public static float[] yawPitchToQuaternion(float yaw, float pitch) {
+        return yawPitchToQuaternion(yaw, pitch, new float[4]);
+    }
+
+    /**
+     * Convert yaw and pitch to quaternion for left rotation, writing [x, y, z, w] into out
+     * Returns out so a single array can be reused every tick
+     */
+    public static float[] yawPitchToQuaternion(float yaw, float pitch, float[] out) {
+        // Convert degrees to radians
+        double yawRad = Math.toRadians(yaw);
+        double pitchRad = Math.toRadians(pitch);
+
+        // Calculate quaternion components
+        // For Minecraft/Display entities, we use Y-axis for yaw and X-axis for pitch
+        double cy = Math.cos(yawRad * 0.5);
+        double sy = Math.sin(yawRad * 0.5);
+        double cp = Math.cos(pitchRad * 0.5);
+        double sp = Math.sin(pitchRad * 0.5);
+
+        out[0] = (float) (cy * sp);
+        out[1] = (float) (sy * cp);
+        out[2] = (float) (-sy * sp);
+        out[3] = (float) (cy * cp);
+        return out;
+    }
+
+    /**
+     * Multiply quaternions a * b (apply b, then a), writing [x, y, z, w] into out
+     * Returns out, which may be the same array as a or b
+     */
+    public static float[] multiply(float[] a, float[] b, float[] out) {
+        float x = a[3] * b[0] + a[0] * b[3] + a[1] * b[2] - a[2] * b[1];
+        float y = a[3] * b[1] - a[0] * b[2] + a[1] * b[3] + a[2] * b[0];
+        float z = a[3] * b[2] + a[0] * b[1] - a[1] * b[0] + a[2] * b[3];
+        float w = a[3] * b[3] - a[0] * b[0] - a[1] * b[1] - a[2] * b[2];
+        out[0] = x;
+        out[1] = y;
+        out[2] = z;
+        out[3] = w;
+        return out;
+    }
+}